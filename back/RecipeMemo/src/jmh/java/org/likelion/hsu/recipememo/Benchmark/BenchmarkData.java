@@ -0,0 +1,56 @@
+package org.likelion.hsu.recipememo.Benchmark;
+
+import org.likelion.hsu.recipememo.Enum.Category;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 H2 시드 데이터 생성기
+ *
+ * JPA로 100만 건을 넣으면 시드에만 수 분이 걸리므로 JDBC 배치 INSERT로 테이블에 직접 넣는다.
+ * 레시피마다 재료 3개, 과정 3개를 넣고, 작성자는 USERS명에게 고르게 나눈다.
+ * 테이블은 Flyway 마이그레이션으로 만들어진 상태여야 한다. (벤치마크는 ddl-auto=validate)
+ */
+final class BenchmarkData {
+
+    static final int USERS = 1_000;
+
+    private static final int BATCH_SIZE = 5_000;
+
+    private static final String[] DISHES = {"김치찌개", "된장찌개", "불고기", "비빔밥", "라멘", "초밥", "짜장면", "마파두부", "파스타", "스테이크"};
+    private static final String[] INGREDIENTS = {"김치", "두부", "돼지고기", "소고기", "양파", "마늘", "대파", "간장", "토마토", "면"};
+
+    private BenchmarkData() {
+    }
+
+    static void seed(JdbcTemplate jdbc, int recipes) {
+        Timestamp now = Timestamp.from(Instant.now());
+        Category[] categories = Category.values();
+        for (int from = 1; from <= recipes; from += BATCH_SIZE) {
+            int to = Math.min(recipes, from + BATCH_SIZE - 1);
+            List<Object[]> recipeRows = new ArrayList<>();
+            List<Object[]> ingredientRows = new ArrayList<>();
+            List<Object[]> stepRows = new ArrayList<>();
+            for (long id = from; id <= to; id++) {
+                String dish = DISHES[(int) (id % DISHES.length)];
+                recipeRows.add(new Object[]{id, dish + " " + id, categories[(int) (id % categories.length)].name(),
+                        "30분", "쉬움", dish + " 만드는 법 " + id, "/uploads/" + id + ".jpg", "user-" + (id % USERS), now, 0L});
+                for (int i = 0; i < 3; i++) {
+                    ingredientRows.add(new Object[]{id, i, INGREDIENTS[(int) ((id + i) % INGREDIENTS.length)]});
+                    stepRows.add(new Object[]{id, i, (i + 1) + "단계: " + dish});
+                }
+            }
+            jdbc.batchUpdate("insert into recipe (id, title, category, cooking_time, difficulty, content, image_url, firebase_uid, updated_at, version) " +
+                    "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", recipeRows);
+            jdbc.batchUpdate("insert into recipe_ingredients (recipe_id, ingredients_order, ingredients) values (?, ?, ?)", ingredientRows);
+            jdbc.batchUpdate("insert into recipe_steps (recipe_id, steps_order, steps) values (?, ?, ?)", stepRows);
+        }
+        // id를 직접 넣었으므로 이후 JPA로 저장하는 레시피가 겹치지 않게 시퀀스(V1__baseline의 recipe_seq)를 넘김
+        // (pooled 최적화는 받은 값에서 증가폭(50)만큼 앞의 id부터 쓰므로 그만큼 더 넘김)
+        jdbc.execute("alter sequence recipe_seq restart with " + (recipes + 51));
+    }
+}
@@ -0,0 +1,122 @@
+package org.likelion.hsu.recipememo.Benchmark;
+
+import org.likelion.hsu.recipememo.RecipeMemoApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 업로드 처리량/꼬리 지연 비교: Tomcat 고정 워커 풀(platform) vs 가상 스레드(virtual)
+ *
+ * 클라이언트 64 스레드가 POST /api/recipes 로 이미지가 포함된 multipart 업로드를 동시에 보낸다.
+ * 워커 풀이 먼저 바닥나도록 server.tomcat.threads.max를 16으로 줄였다. (virtual 모드에서는 사용되지 않음)
+ * Throughput으로 초당 업로드 수를, SampleTime으로 p95/p99 응답 시간을 본다.
+ * virtual 모드는 Java 21 이상에서 실행해야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+public class ConcurrentUploadBenchmark {
+
+    private static final String BOUNDARY = "----RecipeMemoBenchmarkBoundary";
+    private static final String RECIPE_JSON = "{\"title\":\"동시 업로드 김치찌개\",\"category\":\"한식\","
+            + "\"ingredients\":[\"김치\",\"돼지고기\"],\"steps\":[\"볶는다\",\"끓인다\"],\"firebaseUid\":\"bench-upload\"}";
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI uploadUri;
+    private byte[] jpeg;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(RecipeMemoApplication.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=16",
+                        "recipe.virtual-threads.enabled=" + "virtual".equals(threads),
+                        "spring.datasource.url=jdbc:h2:mem:bench-upload-" + threads + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=validate",
+                        "spring.cache.type=none",
+                        "upload.path=" + Files.createTempDirectory("bench-uploads") + "/",
+                        "logging.level.root=WARN")
+                .run();
+        uploadUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/recipes");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        jpeg = sampleJpeg();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int upload() throws Exception {
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uploadUri)
+                        .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(multipartBody()))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("업로드 실패: " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    // 매 요청마다 JPEG 끝(EOI) 뒤에 임의 바이트를 붙여 내용 해시를 다르게 함 → 중복 제거 없이 실제로 파일을 씀
+    private byte[] multipartBody() throws IOException {
+        byte[] suffix = new byte[16];
+        ThreadLocalRandom.current().nextBytes(suffix);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream(jpeg.length + 1024);
+        body.write(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"recipe\"\r\n"
+                + "Content-Type: application/json\r\n\r\n"
+                + RECIPE_JSON + "\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"imageFile\"; filename=\"bench.jpg\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.write(jpeg);
+        body.write(suffix);
+        body.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+
+    private static byte[] sampleJpeg() throws IOException {
+        BufferedImage image = new BufferedImage(1200, 900, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, (x * 7) ^ (y * 13));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,110 @@
+package org.likelion.hsu.recipememo.Benchmark;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.likelion.hsu.recipememo.RecipeMemoApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 DB 커넥션 점유 시간 비교 (실제 내장 Tomcat + HTTP 클라이언트 16 스레드, 풀 크기 10)
+ *
+ * settings=default: 이전 설정 그대로 (open-in-view=true → 커넥션을 요청 끝까지, JSON 직렬화 중에도 점유)
+ * settings=perf: application-perf.properties의 JPA 설정 (open-in-view=false → 서비스 트랜잭션 동안만 점유)
+ * PostgreSQL 드라이버 전용 data-source-properties는 H2가 모르는 속성이라 제외하고, 나머지 값은 프로필 파일과 같게 직접 넣는다.
+ *
+ * 처리량과 함께 @TearDown에서 Hikari의 hikaricp.connections.usage(커넥션을 빌려서 돌려줄 때까지 시간) 평균/최대를 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class ConnectionHoldBenchmark {
+
+    private static final int RECIPES = 10_000;
+
+    @Param({"default", "perf"})
+    public String settings;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String base;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:bench-connection-hold-" + settings + ";DB_CLOSE_DELAY=-1",
+                "spring.datasource.hikari.maximum-pool-size=10",
+                "spring.datasource.hikari.minimum-idle=10",
+                "spring.cache.type=none", // 캐시 적중으로 DB를 건너뛰지 않도록
+                "upload.path=" + Files.createTempDirectory("bench-uploads") + "/",
+                "logging.level.root=WARN"));
+        if ("perf".equals(settings)) {
+            properties.addAll(List.of(
+                    "spring.jpa.open-in-view=false",
+                    "spring.jpa.properties.hibernate.default_batch_fetch_size=64",
+                    "spring.jpa.properties.hibernate.query.plan_cache_max_size=256",
+                    "spring.jpa.properties.hibernate.query.plan_parameter_metadata_max_size=64",
+                    "spring.jpa.properties.hibernate.query.in_clause_parameter_padding=true"));
+        }
+        context = new SpringApplicationBuilder(RecipeMemoApplication.class)
+                .properties(properties.toArray(String[]::new))
+                .run();
+        BenchmarkData.seed(context.getBean(JdbcTemplate.class), RECIPES);
+        base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Timer usage = context.getBean(MeterRegistry.class).find("hikaricp.connections.usage").timer();
+        if (usage != null) {
+            System.out.printf("%n[%s] 커넥션 점유 %d회, 평균 %.3f ms, 최대 %.3f ms%n", settings, usage.count(),
+                    usage.mean(TimeUnit.MILLISECONDS), usage.max(TimeUnit.MILLISECONDS));
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public int recipeDetail() throws Exception {
+        return fetch("/api/recipes/" + (1 + ThreadLocalRandom.current().nextInt(RECIPES)));
+    }
+
+    @Benchmark
+    public int categoryList() throws Exception {
+        return fetch("/api/recipes/category/KOREAN");
+    }
+
+    private int fetch(String path) throws Exception {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(URI.create(base + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " → " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
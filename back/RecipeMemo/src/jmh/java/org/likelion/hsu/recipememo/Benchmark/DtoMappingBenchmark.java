@@ -0,0 +1,67 @@
+package org.likelion.hsu.recipememo.Benchmark;
+
+import org.likelion.hsu.recipememo.Dto.Response.RecipeResponseDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeTitleResponseDto;
+import org.likelion.hsu.recipememo.Entity.Recipe;
+import org.likelion.hsu.recipememo.Enum.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → 응답 DTO 변환, 카테고리 이름 변환 비용 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    private Recipe recipe;
+
+    @Setup
+    public void setUp() {
+        recipe = Recipe.builder()
+                .id(1L)
+                .title("김치찌개")
+                .category(Category.KOREAN)
+                .cookingTime("30분")
+                .difficulty("쉬움")
+                .ingredients(Arrays.asList("김치", "돼지고기", "두부", "대파", "고춧가루"))
+                .content("얼큰한 김치찌개")
+                .steps(Arrays.asList("김치를 볶는다", "물을 붓는다", "두부를 넣는다", "끓인다"))
+                .imageUrl("/uploads/abc.jpg")
+                .thumbnailUrl("/uploads/abc_thumb.jpg")
+                .mediumUrl("/uploads/abc_medium.jpg")
+                .firebaseUid("user-1")
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    @Benchmark
+    public RecipeResponseDto recipeResponseFrom() {
+        return RecipeResponseDto.from(recipe);
+    }
+
+    @Benchmark
+    public RecipeTitleResponseDto recipeTitleResponseFrom() {
+        return RecipeTitleResponseDto.from(recipe);
+    }
+
+    @Benchmark
+    public Category categoryFromDisplayNameFirst() {
+        return Category.fromDisplayName("한식");
+    }
+
+    @Benchmark
+    public Category categoryFromDisplayNameLast() {
+        return Category.fromDisplayName("양식");
+    }
+}
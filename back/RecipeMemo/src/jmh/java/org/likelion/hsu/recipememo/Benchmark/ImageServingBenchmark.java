@@ -0,0 +1,112 @@
+package org.likelion.hsu.recipememo.Benchmark;
+
+import org.likelion.hsu.recipememo.RecipeMemoApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 이미지 서빙 처리량 비교 (실제 내장 Tomcat + HTTP 클라이언트 8 스레드)
+ *
+ * imageController: /uploads/** → ImageController (sendfile / transferTo)
+ * resourceHandler: /legacy-uploads/** → 이전 방식인 Spring MVC ResourceHttpRequestHandler
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class ImageServingBenchmark {
+
+    private static final String FILE_NAME = "bench.jpg";
+
+    @Param({"65536", "1048576"})
+    public int fileSize;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI controllerUri;
+    private URI resourceHandlerUri;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path uploadDir = Files.createTempDirectory("bench-uploads");
+        byte[] data = new byte[fileSize];
+        new Random(42).nextBytes(data);
+        Files.write(uploadDir.resolve(FILE_NAME), data);
+
+        context = new SpringApplicationBuilder(RecipeMemoApplication.class, LegacyUploadsConfig.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:bench-images;DB_CLOSE_DELAY=-1",
+                        "upload.path=" + uploadDir + "/",
+                        "logging.level.root=WARN")
+                .run();
+        String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        controllerUri = URI.create(base + "/uploads/" + FILE_NAME);
+        resourceHandlerUri = URI.create(base + "/legacy-uploads/" + FILE_NAME);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long imageController() throws Exception {
+        return fetch(controllerUri);
+    }
+
+    @Benchmark
+    public long resourceHandler() throws Exception {
+        return fetch(resourceHandlerUri);
+    }
+
+    private long fetch(URI uri) throws Exception {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(uri + " → " + response.statusCode());
+        }
+        return response.body().length;
+    }
+
+    /**
+     * ImageController 도입 전 WebConfig의 /uploads 설정을 다른 경로에 그대로 재현
+     * (@Configuration을 붙이지 않아 다른 벤치마크의 컴포넌트 스캔에는 잡히지 않음)
+     */
+    static class LegacyUploadsConfig implements WebMvcConfigurer {
+
+        @Value("${upload.path}")
+        private String uploadPath;
+
+        @Override
+        public void addResourceHandlers(ResourceHandlerRegistry registry) {
+            registry.addResourceHandler("/legacy-uploads/**")
+                    .addResourceLocations("file:" + uploadPath)
+                    .setCachePeriod(3600);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.likelion.hsu.recipememo.Benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeColumnsResponseDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeListResponseDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeTitleResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 카테고리 목록 한 페이지(20건)의 인코딩별 크기와 직렬화(+gzip) 비용
+ *
+ * json: 기존 RecipeListResponseDto JSON / columnar: ?format=columnar
+ * smile, cbor: Accept: application/x-jackson-smile, application/cbor
+ * gzip=true는 server.compression 이 켜진 운영 환경에서 실제로 전송되는 바이트
+ * 형식별 크기(바이트)는 @Setup에서 한 번 출력한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListEncodingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final String[] TITLES = {"김치찌개", "된장찌개", "제육볶음", "비빔밥", "불고기", "떡볶이", "잡채", "갈비찜"};
+
+    @Param({"json", "columnar", "smile", "cbor"})
+    public String format;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    private Object body;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() throws IOException {
+        RecipeListResponseDto page = page();
+        RecipeColumnsResponseDto columns = RecipeColumnsResponseDto.from(page.getRecipes());
+        columns.setCategory(page.getCategory());
+        columns.setNextCursor(page.getNextCursor());
+
+        ObjectMapper json = new ObjectMapper();
+        switch (format) {
+            case "columnar":
+                body = columns;
+                writer = json.writer();
+                break;
+            case "smile":
+                body = page;
+                writer = new ObjectMapper(new SmileFactory()).writer();
+                break;
+            case "cbor":
+                body = page;
+                writer = new ObjectMapper(new CBORFactory()).writer();
+                break;
+            default:
+                body = page;
+                writer = json.writer();
+        }
+        int baseline = encode(json.writer(), page, false).length;
+        int size = encode();
+        System.out.printf("%n[%s, gzip=%s] %d bytes (json 대비 %.0f%% 감소)%n",
+                format, gzip, size, 100.0 * (baseline - size) / baseline);
+    }
+
+    @Benchmark
+    public int encode() throws IOException {
+        return encode(writer, body, gzip).length;
+    }
+
+    private static byte[] encode(ObjectWriter writer, Object body, boolean gzip) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 * 1024);
+        if (gzip) {
+            try (GZIPOutputStream compressed = new GZIPOutputStream(out)) {
+                writer.writeValue(compressed, body);
+            }
+        } else {
+            writer.writeValue(out, body);
+        }
+        return out.toByteArray();
+    }
+
+    // 썸네일까지 만들어진 레시피 20건 (이미지 URL은 실제처럼 /uploads/ab/cd/{sha256}.jpg)
+    private static RecipeListResponseDto page() {
+        Random random = new Random(42);
+        List<RecipeTitleResponseDto> recipes = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            byte[] hash = new byte[32];
+            random.nextBytes(hash);
+            String name = HexFormat.of().formatHex(hash);
+            String base = "/uploads/" + name.substring(0, 2) + "/" + name.substring(2, 4) + "/" + name;
+            recipes.add(new RecipeTitleResponseDto(100_000L - i, TITLES[i % TITLES.length] + " " + i,
+                    base + ".jpg", base + "_thumb.jpg", base + "_medium.jpg", null));
+        }
+        return new RecipeListResponseDto("한식", recipes, 100_000L - PAGE_SIZE + 1);
+    }
+}
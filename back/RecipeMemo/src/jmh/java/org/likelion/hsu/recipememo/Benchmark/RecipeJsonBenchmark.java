@@ -0,0 +1,63 @@
+package org.likelion.hsu.recipememo.Benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.likelion.hsu.recipememo.Config.JacksonConfig;
+import org.likelion.hsu.recipememo.Dto.Request.RecipeRequestDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레시피 등록/수정 요청의 "recipe" JSON을 RecipeRequestDto로 읽는 비용 측정
+ * perRequestMapper: 요청마다 ObjectMapper를 새로 만들고 JSON 문자열을 읽던 이전 컨트롤러 방식
+ * sharedReaderFromStream: JacksonConfig의 공유 ObjectReader로 파트 InputStream을 바로 읽는 현재 방식
+ * 요청당 할당량 차이는 gc 프로파일러 결과의 gc.alloc.rate.norm (bytes/op)으로 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecipeJsonBenchmark {
+
+    static final String RECIPE_JSON = "{\"title\":\"김치찌개\",\"category\":\"한식\",\"cookingTime\":\"30분\"," +
+            "\"difficulty\":\"쉬움\",\"ingredients\":[\"김치\",\"돼지고기\",\"두부\",\"대파\"]," +
+            "\"content\":\"얼큰한 김치찌개\",\"steps\":[\"김치를 볶는다\",\"물을 붓는다\",\"끓인다\"]," +
+            "\"firebaseUid\":\"user-1\",\"unknownField\":\"ignored\"}";
+
+    private static final byte[] RECIPE_JSON_BYTES = RECIPE_JSON.getBytes(StandardCharsets.UTF_8);
+
+    private ObjectReader sharedReader;
+
+    @Setup
+    public void setUp() {
+        sharedReader = new JacksonConfig().recipeRequestReader(new ObjectMapper());
+    }
+
+    @Benchmark
+    public RecipeRequestDto perRequestMapper() throws IOException {
+        return newMapper().readValue(RECIPE_JSON, RecipeRequestDto.class);
+    }
+
+    @Benchmark
+    public RecipeRequestDto sharedReaderFromStream() throws IOException {
+        return sharedReader.readValue(new ByteArrayInputStream(RECIPE_JSON_BYTES));
+    }
+
+    // 이전 RecipeController와 같은 설정
+    private static ObjectMapper newMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true);
+        return mapper;
+    }
+}
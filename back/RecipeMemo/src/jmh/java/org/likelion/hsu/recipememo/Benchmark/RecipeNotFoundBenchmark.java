@@ -0,0 +1,116 @@
+package org.likelion.hsu.recipememo.Benchmark;
+
+import org.likelion.hsu.recipememo.Dto.Response.RecipeResponseDto;
+import org.likelion.hsu.recipememo.RecipeMemoApplication;
+import org.likelion.hsu.recipememo.Repository.RecipeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 없는 ID만 조회하는 요청(크롤러의 ID 훑기)의 처리량 비교 (실제 내장 Tomcat + HTTP 클라이언트 8 스레드)
+ *
+ * notFound: GET /api/recipes/{id} → 스택 없는 RecipeNotFoundException → 404 (debug 로그)
+ * legacyRuntimeException: 이전 방식 그대로 new RuntimeException → GlobalExceptionHandler가 스택과 함께 error 로그 → 500
+ * 로그는 콘솔 대신 임시 파일로 보내 실제 운영처럼 로그 쓰기 비용까지 포함한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class RecipeNotFoundBenchmark {
+
+    private static final int RECIPES = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String base;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path logDir = Files.createTempDirectory("bench-logs");
+        context = new SpringApplicationBuilder(RecipeMemoApplication.class, LegacyLookupController.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:bench-not-found;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=validate",
+                        "upload.path=" + Files.createTempDirectory("bench-uploads") + "/",
+                        "logging.pattern.console=",
+                        "logging.file.name=" + logDir.resolve("bench.log"),
+                        "logging.level.root=WARN",
+                        "logging.level.org.likelion.hsu.recipememo=INFO")
+                .run();
+        BenchmarkData.seed(context.getBean(JdbcTemplate.class), RECIPES);
+        base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int notFound() throws Exception {
+        return fetch("/api/recipes/", 404);
+    }
+
+    @Benchmark
+    public int legacyRuntimeException() throws Exception {
+        return fetch("/legacy-recipes/", 500);
+    }
+
+    private int fetch(String path, int expectedStatus) throws Exception {
+        long missingId = RECIPES + 1 + ThreadLocalRandom.current().nextInt(1_000_000);
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(base + path + missingId)).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(path + missingId + " → " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    /**
+     * RecipeNotFoundException 도입 전의 조회 방식을 다른 경로에 재현
+     * (@RestController를 붙이지 않아 다른 벤치마크의 컴포넌트 스캔에는 잡히지 않음 - 클래스의 @RequestMapping으로 핸들러 등록)
+     */
+    @RequestMapping("/legacy-recipes")
+    static class LegacyLookupController {
+
+        private final RecipeRepository recipeRepository;
+
+        LegacyLookupController(RecipeRepository recipeRepository) {
+            this.recipeRepository = recipeRepository;
+        }
+
+        @GetMapping("/{id}")
+        @ResponseBody
+        public RecipeResponseDto getRecipeById(@PathVariable Long id) {
+            return RecipeResponseDto.from(recipeRepository.findWithIngredientsById(id)
+                    .orElseThrow(() -> new RuntimeException("레시피를 찾을 수 없습니다.")));
+        }
+    }
+}
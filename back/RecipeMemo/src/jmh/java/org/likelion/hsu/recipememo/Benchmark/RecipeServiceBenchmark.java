@@ -0,0 +1,107 @@
+package org.likelion.hsu.recipememo.Benchmark;
+
+import org.likelion.hsu.recipememo.Dto.Response.HomeSummaryResponseDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeCursorPageDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeListResponseDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeSearchResponseDto;
+import org.likelion.hsu.recipememo.Enum.Category;
+import org.likelion.hsu.recipememo.RecipeMemoApplication;
+import org.likelion.hsu.recipememo.Service.CategoryStatService;
+import org.likelion.hsu.recipememo.Service.RecipeSearchIndex;
+import org.likelion.hsu.recipememo.Service.RecipeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RecipeService 목록/검색 메서드 측정 (내장 H2, 레시피 수별)
+ *
+ * 캐시(spring.cache.type=none)를 끄고 매번 DB/검색 색인을 거치는 비용을 잰다.
+ * 레시피 수는 -PjmhRecipes=1000 처럼 줄여서 실행할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecipeServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "100000", "1000000"})
+    public int recipes;
+
+    private ConfigurableApplicationContext context;
+    private RecipeService recipeService;
+    private CategoryStatService categoryStatService;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(RecipeMemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + recipes + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=validate",
+                        "spring.cache.type=none",
+                        "upload.path=" + Files.createTempDirectory("bench-uploads"),
+                        "logging.level.root=WARN")
+                .run();
+        BenchmarkData.seed(context.getBean(JdbcTemplate.class), recipes);
+        context.getBean(RecipeSearchIndex.class).rebuild(); // 시드 후 색인을 다시 만듦 (기동 시점에는 테이블이 비어 있었음)
+        context.getBean(CategoryStatService.class).recount(); // JDBC로 넣은 레시피는 개수 통계에 반영되지 않았으므로 다시 셈
+        recipeService = context.getBean(RecipeService.class);
+        categoryStatService = context.getBean(CategoryStatService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public RecipeListResponseDto categoryFirstPage() {
+        return recipeService.getTitlesByCategory(Category.KOREAN, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public RecipeListResponseDto categoryMiddlePage() {
+        return recipeService.getTitlesByCategory(Category.KOREAN, (long) recipes / 2, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public HomeSummaryResponseDto homeSummary() {
+        return categoryStatService.getSummary(4); // 개수 1번 + 카테고리별 최신 4건
+    }
+
+    @Benchmark
+    public RecipeSearchResponseDto searchTitle() {
+        return recipeService.searchRecipes("김치", EnumSet.of(RecipeSearchIndex.Field.TITLE), 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public RecipeSearchResponseDto searchAllFields() {
+        return recipeService.searchRecipes("두부", EnumSet.allOf(RecipeSearchIndex.Field.class), 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public RecipeCursorPageDto userRecipesFirstPage() {
+        return recipeService.getRecipesByFirebaseUid("user-7", null, PAGE_SIZE); // 사용자당 레시피 수 / BenchmarkData.USERS 건 중 첫 페이지
+    }
+
+    @Benchmark
+    public long userRecipeCount() {
+        return recipeService.countRecipesByFirebaseUid("user-7");
+    }
+}
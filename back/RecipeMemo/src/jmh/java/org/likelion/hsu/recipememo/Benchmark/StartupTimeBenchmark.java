@@ -0,0 +1,108 @@
+package org.likelion.hsu.recipememo.Benchmark;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간 측정 - 프로세스 시작부터 GET /api/health 가 처음 200을 돌려줄 때까지 (./gradlew startupBenchmark)
+ *
+ * JVM 시작 자체가 측정 대상이라 JMH 대신 매번 새 프로세스를 띄워 잰다.
+ * default: java -jar app.jar (이전 방식)
+ * faststart: java -jar app.jar --spring.profiles.active=faststart
+ * faststart+cds: build/cds 에서 java -XX:SharedArchiveFile=app.jsa -jar app-cds.jar --spring.profiles.active=faststart
+ * DB는 실행마다 새 H2 메모리 DB(Flyway 마이그레이션 포함)를 쓰고, 방식별 최소/중앙값/최대를 출력한다.
+ *
+ * 인자: app.jar 경로, build/cds 디렉터리, 방식별 반복 횟수
+ */
+public final class StartupTimeBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private StartupTimeBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path bootJar = Path.of(args[0]);
+        Path cdsDir = Path.of(args[1]);
+        int runs = Integer.parseInt(args[2]);
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+
+        measure("default", runs, cdsDir, List.of(java, "-jar", bootJar.toString()));
+        measure("faststart", runs, cdsDir, List.of(java, "-jar", bootJar.toString(), "--spring.profiles.active=faststart"));
+        if (Files.exists(cdsDir.resolve("app.jsa"))) {
+            measure("faststart+cds", runs, cdsDir, List.of(java, "-XX:SharedArchiveFile=app.jsa", "-Xshare:auto",
+                    "-jar", "app-cds.jar", "--spring.profiles.active=faststart"));
+        } else {
+            System.out.println("app.jsa 가 없어 faststart+cds 는 건너뜀 (./gradlew cdsArchive)");
+        }
+    }
+
+    private static void measure(String name, int runs, Path workingDir, List<String> command) throws Exception {
+        long[] millis = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            millis[i] = timeToFirstHealth(workingDir, command, name + "-" + i);
+        }
+        Arrays.sort(millis);
+        System.out.printf("[%s] %d회: 최소 %d ms, 중앙값 %d ms, 최대 %d ms%n",
+                name, runs, millis[0], millis[runs / 2], millis[runs - 1]);
+    }
+
+    private static long timeToFirstHealth(Path workingDir, List<String> command, String database) throws Exception {
+        int port = freePort();
+        List<String> arguments = new ArrayList<>(command);
+        arguments.addAll(List.of(
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:" + database,
+                "--recipe.scheduling.enabled=false",
+                "--upload.path=" + Files.createTempDirectory("startup-uploads") + "/",
+                "--logging.level.root=WARN"));
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofMillis(200)).build();
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/health")).GET().build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(arguments)
+                .directory(workingDir.toFile())
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(String.join(" ", arguments) + " 종료됨 (exit " + process.exitValue() + ")");
+                }
+                try {
+                    if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    // 아직 포트가 열리지 않았거나 연결 직후 끊김
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(TIMEOUT + " 안에 /api/health 응답 없음: " + String.join(" ", arguments));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
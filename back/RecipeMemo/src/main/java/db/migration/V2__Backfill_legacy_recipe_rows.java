@@ -0,0 +1,79 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.likelion.hsu.recipememo.Entity.Recipe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * ddl-auto=update 시절에 저장된 데이터를 현재 매핑에 맞추는 마이그레이션 (한 번만 실행됨)
+ *
+ * 예전에는 RecipeSequenceAligner / RecipeSchemaBackfill 이 서버가 시작될 때마다 같은 확인을 반복했다.
+ * 1. recipe_seq를 기존 레시피 ID 뒤로 옮긴다. (IDENTITY로 만든 ID와 새 ID가 겹치지 않도록)
+ * 2. version이 null인 레시피를 0으로 채운다. (null이면 수정할 수 없음)
+ * 3. 비어 있는 재료/과정 순서 값을 물리적 행 순서(PostgreSQL ctid, H2 _ROWID_)로 0부터 채운다. (예전 목록은 INSERT 순서대로 읽혔음)
+ * 새로 만든 DB에서는 바꿀 행이 없으므로 아무 것도 하지 않는다.
+ *
+ * 파일명(V2__...)이 Flyway 버전이므로 클래스 이름과 패키지(db.migration)를 Flyway 규칙대로 둔다.
+ */
+public class V2__Backfill_legacy_recipe_rows extends BaseJavaMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(V2__Backfill_legacy_recipe_rows.class);
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        String database = context.getConnection().getMetaData().getDatabaseProductName();
+
+        alignSequence(jdbcTemplate, database);
+        int versions = jdbcTemplate.update("update recipe set version = 0 where version is null");
+        if (versions > 0) {
+            log.info("version이 없던 레시피 {}건을 0으로 채움", versions);
+        }
+        backfillOrder(jdbcTemplate, database, "recipe_ingredients", "ingredients_order");
+        backfillOrder(jdbcTemplate, database, "recipe_steps", "steps_order");
+    }
+
+    private void alignSequence(JdbcTemplate jdbcTemplate, String database) {
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from recipe", Long.class);
+        if (maxId == null || maxId == 0) {
+            return;
+        }
+        if ("PostgreSQL".equals(database)) {
+            // setval(x) 후 다음 nextval은 x + 50 → pooled 옵티마이저가 (x + 1) ~ (x + 50) 구간을 사용
+            jdbcTemplate.queryForObject("select setval('recipe_seq', greatest(?, (select last_value from recipe_seq)))",
+                    Long.class, maxId);
+        } else if ("H2".equals(database)) {
+            jdbcTemplate.execute("alter sequence recipe_seq restart with " + (maxId + Recipe.ID_ALLOCATION_SIZE));
+        } else {
+            log.warn("{}에서는 recipe_seq 위치를 자동으로 맞추지 않습니다. (max id = {})", database, maxId);
+            return;
+        }
+        log.info("recipe_seq를 기존 레시피 ID({}) 뒤로 맞춤", maxId);
+    }
+
+    private void backfillOrder(JdbcTemplate jdbcTemplate, String database, String table, String orderColumn) {
+        Integer missing = jdbcTemplate.queryForObject(
+                "select count(*) from " + table + " where " + orderColumn + " is null", Integer.class);
+        if (missing == null || missing == 0) {
+            return;
+        }
+        int updated;
+        if ("PostgreSQL".equals(database)) {
+            updated = jdbcTemplate.update("update " + table + " t set " + orderColumn + " = s.seq from (" +
+                    "select ctid, row_number() over (partition by recipe_id order by ctid) - 1 as seq " +
+                    "from " + table + " where " + orderColumn + " is null) s where t.ctid = s.ctid");
+        } else if ("H2".equals(database)) {
+            updated = jdbcTemplate.update("update " + table + " t set " + orderColumn + " = (" +
+                    "select count(*) from " + table + " s where s.recipe_id = t.recipe_id and s._rowid_ < t._rowid_) " +
+                    "where " + orderColumn + " is null");
+        } else {
+            log.warn("{}에서는 {}.{} 값을 자동으로 채우지 않습니다. ({}건 비어 있음)", database, table, orderColumn, missing);
+            return;
+        }
+        log.info("{}.{} 순서 값 {}건 채움", table, orderColumn, updated);
+    }
+}
@@ -0,0 +1,66 @@
+package org.likelion.hsu.recipememo.Config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * 캐시 설정 - 레시피 상세/카테고리 목록 조회 결과를 Caffeine 인메모리 캐시에 보관
+ * 캐시 advisor를 트랜잭션 advisor보다 바깥에 두어, 캐시 적중 시에는 트랜잭션(DB 커넥션)을 아예 열지 않는다.
+ * 캐시 미스로 값을 채우는 조회는 복제본이 아닌 primary에서 읽는다. (@Cacheable(sync = true) → get(key, valueLoader) 경로)
+ * 쓰기 커밋 후 캐시를 비운 직후의 조회가 복제 지연 중인 복제본의 예전 값을 TTL 동안 캐시에 남기지 않도록 하기 위함이며,
+ * 그 대가로 캐시 미스 조회의 부하는 primary가 진다. (캐시를 쓰지 않는 검색/사용자 목록 등은 그대로 복제본)
+ * 적중/미스/축출 통계는 actuator의 cache.gets, cache.puts, cache.evictions 메트릭으로 확인할 수 있다. (/actuator/metrics, /actuator/prometheus)
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    // 레시피 상세 (key: id 또는 "카테고리:id")
+    public static final String RECIPE_DETAIL = "recipeDetail";
+
+    // 카테고리별 목록 페이지 (key: "카테고리:after:limit")
+    public static final String CATEGORY_PAGE = "recipeCategoryPage";
+
+    // 홈 화면 요약 (key: 미리보기 개수) - 레시피가 바뀌면 통째로 제거
+    public static final String HOME_SUMMARY = "recipeHomeSummary";
+
+    @Value("${cache.recipe.max-size:10000}")
+    private long maxSize;
+
+    @Value("${cache.recipe.ttl:10m}")
+    private Duration ttl;
+
+    /**
+     * 캐시마다 최대 항목 수와 TTL을 두고, 통계 기록(recordStats)을 켠 Caffeine 캐시 매니저
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(RECIPE_DETAIL, CATEGORY_PAGE, HOME_SUMMARY) {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new CaffeineCache(name, cache, isAllowNullValues()) {
+                    @Override
+                    public <T> T get(Object key, Callable<T> valueLoader) {
+                        return super.get(key, () -> ReplicaRoutingDataSource.readFromPrimary(valueLoader));
+                    }
+                };
+            }
+        };
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,16 @@
+package org.likelion.hsu.recipememo.Config;
+
+import org.likelion.hsu.recipememo.Enum.Category;
+import org.springframework.core.convert.converter.Converter;
+
+/**
+ * 경로 변수/요청 파라미터 문자열 → Category (KOREAN, korean, 한식 모두 허용)
+ * 알 수 없는 값은 예외를 만들지 않고 null로 변환하며, 컨트롤러가 null이면 400으로 응답한다.
+ */
+public class CategoryConverter implements Converter<String, Category> {
+
+    @Override
+    public Category convert(String source) {
+        return Category.lookup(source);
+    }
+}
@@ -0,0 +1,41 @@
+package org.likelion.hsu.recipememo.Config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * AppCDS 아카이브를 만들기 위한 학습 실행 (./gradlew cdsArchive 에서 recipe.cds.training-run=true 로 실행)
+ *
+ * 시작이 끝나면 /api/health를 한 번 호출해 첫 요청 경로의 클래스까지 로딩한 뒤 종료한다.
+ * JVM이 종료될 때 -XX:ArchiveClassesAtExit 로 지금까지 로딩한 클래스를 아카이브에 저장한다.
+ */
+@Component
+@ConditionalOnProperty(name = "recipe.cds.training-run", havingValue = "true")
+@Slf4j
+public class CdsTrainingRun {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void exitAfterFirstRequest(ApplicationReadyEvent event) {
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        try {
+            HttpResponse<Void> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/health")).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            log.info("CDS 학습 실행: /api/health → {}", response.statusCode());
+        } catch (Exception e) {
+            log.warn("CDS 학습 실행: /api/health 호출 실패 ({})", e.getMessage());
+        }
+        System.exit(SpringApplication.exit(context));
+    }
+}
@@ -26,6 +26,7 @@ public class CorsConfig implements WebMvcConfigurer {
                     )
                     .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                     .allowedHeaders("*")
+                    .exposedHeaders("X-Next-Cursor") // 사용자별 목록의 다음 페이지 커서
                     .allowCredentials(false) // 프로덕션에서는 필요시에만 true
                     .maxAge(3600); // preflight 캐시 시간 (1시간)
         } else {
@@ -42,6 +43,7 @@ public class CorsConfig implements WebMvcConfigurer {
                     )
                     .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                     .allowedHeaders("*")
+                    .exposedHeaders("X-Next-Cursor") // 사용자별 목록의 다음 페이지 커서
                     .allowCredentials(false)
                     .maxAge(86400); // 개발 환경에서는 하루 캐시
         }
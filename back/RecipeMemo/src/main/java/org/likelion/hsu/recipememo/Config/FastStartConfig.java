@@ -0,0 +1,32 @@
+package org.likelion.hsu.recipememo.Config;
+
+import org.flywaydb.core.Flyway;
+import org.likelion.hsu.recipememo.Controller.HealthController;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+/**
+ * 빠른 시작 모드 (faststart 프로필, spring.main.lazy-initialization=true) 에서도 시작할 때 만들어야 하는 빈
+ *
+ * 지연 초기화를 켜면 컨트롤러/서비스는 첫 요청 때 만들어지지만, 아래 빈은 그대로 시작 시점에 만든다.
+ * - DataSource, Flyway, EntityManagerFactory: 마이그레이션/매핑 오류가 첫 요청이 아니라 배포 단계에서 드러나도록
+ *   (/api/health가 200을 돌려주면 DB 스키마까지 준비된 상태)
+ * - HealthController: Railway 헬스체크의 첫 응답이 빈 생성 비용을 떠안지 않도록
+ * @Scheduled 메서드가 있는 빈은 Boot가 이미 지연 초기화에서 제외한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.main.lazy-initialization", havingValue = "true")
+public class FastStartConfig {
+
+    // BeanFactoryPostProcessor 단계에서 조회되므로 static으로 선언해 설정 클래스가 먼저 만들어지지 않게 함
+    @Bean
+    public static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DataSource.class, Flyway.class, EntityManagerFactory.class, HealthController.class);
+    }
+}
@@ -0,0 +1,54 @@
+package org.likelion.hsu.recipememo.Config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.likelion.hsu.recipememo.Dto.Request.RecipeRequestDto;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Jackson 설정 - 요청 JSON을 읽는 ObjectReader를 미리 만들어 재사용
+ *
+ * ObjectMapper를 요청마다 만들면 매번 설정/타입 분석(introspection)을 다시 하게 된다.
+ * ObjectReader는 불변이고 스레드 안전하므로 한 번 만든 것을 모든 요청에서 같이 쓴다.
+ *
+ * 바이너리 JSON 응답: Accept: application/x-jackson-smile 또는 application/cbor 로 요청하면
+ * 같은 DTO를 Smile/CBOR로 보낸다. (키 이름과 숫자를 짧게 인코딩, Accept가 없거나 JSON이면 기존처럼 JSON)
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * multipart "recipe" 파트(JSON)를 RecipeRequestDto로 읽는 리더
+     * 알 수 없는 속성은 무시하고, 빈 문자열은 null로 처리한다.
+     */
+    @Bean
+    public ObjectReader recipeRequestReader(ObjectMapper objectMapper) {
+        return objectMapper.readerFor(RecipeRequestDto.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .with(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT);
+    }
+
+    /**
+     * Smile 변환기 - Spring MVC 기본 변환기를 대체해 Boot의 Jackson 설정(spring.jackson.*, 날짜 형식 등)을 JSON과 똑같이 적용
+     * 반복되는 키 이름은 처음 한 번만 쓰고 이후에는 1바이트 참조로 보냄 (같은 키가 항목 수만큼 반복되는 목록 응답에 유리)
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * CBOR 변환기 (RFC 8949 - Smile보다 여러 언어/플랫폼에서 읽기 쉬움)
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,27 @@
+package org.likelion.hsu.recipememo.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPA(Hibernate) 설정 - INSERT/UPDATE를 JDBC 배치로 묶어 보내도록 기본값 지정
+ * spring.jpa.properties.hibernate.* 로 직접 지정한 값이 있으면 그 값을 우선한다.
+ */
+@Configuration
+public class JpaConfig {
+
+    /**
+     * hibernate.jdbc.batch_size: 같은 종류의 INSERT를 몇 건씩 묶을지
+     * hibernate.order_inserts/order_updates: 레시피/재료/과정 INSERT가 섞이지 않게 정렬해 배치가 끊기지 않도록 함
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(@Value("${recipe.jdbc.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+}
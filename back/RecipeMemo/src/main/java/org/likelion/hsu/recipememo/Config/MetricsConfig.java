@@ -0,0 +1,58 @@
+package org.likelion.hsu.recipememo.Config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+/**
+ * Micrometer 메트릭 설정 - p95/p99 SLO 계산용 히스토그램
+ *
+ * 아래 타이머는 Spring Boot가 자동으로 기록하고, 여기서는 히스토그램 버킷만 켠다.
+ * (Prometheus에서 histogram_quantile()로 인스턴스를 합쳐 분위수를 계산할 수 있도록 클라이언트 측 분위수 대신 버킷 사용)
+ * - http.server.requests: RecipeController 등 엔드포인트별 (uri, method, status 태그)
+ * - spring.data.repository.invocations: RecipeRepository 쿼리 메서드별 (repository, method 태그)
+ * - hikaricp.connections.acquire: 커넥션 풀 대기 시간
+ * - jvm.gc.pause: GC 일시 정지 시간
+ * 업로드 단계별 타이머(recipe.upload)는 Service.UploadMetrics에서 직접 등록한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final Set<String> HISTOGRAM_METERS = Set.of(
+            "http.server.requests",
+            "spring.data.repository.invocations",
+            "hikaricp.connections.acquire",
+            "jvm.gc.pause");
+
+    /**
+     * 모든 메트릭에 application 태그를 붙여 같은 Prometheus에서 다른 서비스와 구분
+     */
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> commonTags(
+            @Value("${spring.application.name:RecipeMemo}") String applicationName) {
+        return registry -> registry.config().commonTags("application", applicationName);
+    }
+
+    @Bean
+    public MeterFilter latencyHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HISTOGRAM_METERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
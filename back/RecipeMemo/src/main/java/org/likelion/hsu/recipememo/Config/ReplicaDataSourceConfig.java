@@ -0,0 +1,61 @@
+package org.likelion.hsu.recipememo.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 설정 - recipe.datasource.replica.url 이 있을 때만 적용 (없으면 Boot 기본 DataSource 하나만 사용)
+ *
+ * primary: spring.datasource.* / spring.datasource.hikari.*
+ * replica: recipe.datasource.replica.url, username, password (생략하면 primary와 같은 계정)
+ *          recipe.datasource.replica.hikari.* (풀 크기, 타임아웃 등)
+ *
+ * 로컬 확인: H2 두 개(jdbc:h2:mem:...) 또는 Postgres 컨테이너 두 개(스트리밍 복제)를 띄워 URL만 바꾸면 된다.
+ * 복제 지연이 있으므로 방금 저장한 레시피를 바로 읽기 전용 메서드로 조회하면 아직 보이지 않을 수 있다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "recipe.datasource.replica.url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("recipe.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(environment.getRequiredProperty("recipe.datasource.replica.url"));
+        dataSource.setUsername(environment.getProperty("recipe.datasource.replica.username", properties.determineUsername()));
+        dataSource.setPassword(environment.getProperty("recipe.datasource.replica.password", properties.determinePassword()));
+        dataSource.setReadOnly(true); // PostgreSQL에서는 읽기 전용 트랜잭션으로 열려 실수로 쓰기가 가지 않음
+        dataSource.setConnectionTimeout(2000); // 복제본이 응답하지 않으면 오래 기다리지 않고 primary로 대체
+        return dataSource;
+    }
+
+    /**
+     * JPA/JdbcTemplate이 사용하는 DataSource
+     * LazyConnectionDataSourceProxy가 첫 SQL 실행 시점까지 커넥션 획득을 미뤄, 그때 readOnly 여부로 대상을 고른다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+    }
+}
@@ -0,0 +1,78 @@
+package org.likelion.hsu.recipememo.Config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Callable;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본으로, 나머지는 primary로 보내는 DataSource
+ *
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로 반드시 LazyConnectionDataSourceProxy로 감싸서
+ * 첫 SQL이 실행될 때 커넥션을 고르도록 해야 한다. (ReplicaDataSourceConfig 참고)
+ * 복제본에서 커넥션을 얻지 못하면 primary에서 대신 읽는다.
+ *
+ * readFromPrimary() 안의 조회는 읽기 전용이어도 primary로 보낸다. (캐시를 채우는 조회 - CacheConfig 참고)
+ * 쓰기 직후 캐시를 비운 뒤 첫 조회가 복제 지연 중인 복제본에서 예전 값을 읽으면, 그 값이 TTL 동안 캐시에 남기 때문이다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = ThreadLocal.withInitial(() -> false);
+
+    private final DataSource primary;
+    private final DataSource replica;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    /**
+     * action 안에서 처음 얻는 커넥션은 읽기 전용 트랜잭션이어도 primary에서 얻는다.
+     * (LazyConnectionDataSourceProxy가 첫 SQL 시점에 커넥션을 고르므로, 트랜잭션이 action 바깥에서 시작되었어도 적용됨)
+     */
+    public static <T> T readFromPrimary(Callable<T> action) throws Exception {
+        boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(true);
+        try {
+            return action.call();
+        } finally {
+            PRIMARY_ONLY.set(previous);
+        }
+    }
+
+    private static boolean routeToReplica() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !PRIMARY_ONLY.get();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!routeToReplica()) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            log.warn("복제본 커넥션 실패, primary에서 읽습니다: {}", e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!routeToReplica()) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replica.getConnection(username, password);
+        } catch (SQLException e) {
+            log.warn("복제본 커넥션 실패, primary에서 읽습니다: {}", e.getMessage());
+            return primary.getConnection(username, password);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.likelion.hsu.recipememo.Config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화 - 이미지 정리 outbox 처리, 고아 이미지 정리, 빠진 썸네일 다시 만들기
+ * recipe.scheduling.enabled=false 로 끌 수 있다. (테스트에서 직접 호출할 때, 정리 작업을 한 서버에서만 돌릴 때)
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "recipe.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,102 @@
+package org.likelion.hsu.recipememo.Config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.likelion.hsu.recipememo.Storage.LocalImageStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 업로드 디렉터리를 평면 구조에서 하위 디렉터리 구조("ab/cd/{이름}")로 옮기는 작업
+ * upload.layout-migration.enabled=true 로 시작하면 한 번 실행된다. (다 옮긴 뒤에는 다시 false로)
+ *
+ * 1. 평면 위치의 파일을 upload.layout-migration.threads 개 스레드로 나눠 새 위치로 rename
+ * 2. recipe의 image_url / thumbnail_url / medium_url 을 id 순으로 batch-size 건씩 새 URL로 변경 (JDBC 배치 UPDATE)
+ *
+ * 두 단계 모두 서버가 요청을 받는 동안 백그라운드 스레드에서 진행한다.
+ * 저장소가 예전 URL과 새 URL을 모두 찾아 주므로 진행 중에도 이미지는 계속 보이며, 중간에 멈춰도 다시 실행하면 이어서 처리된다.
+ */
+@Component
+@ConditionalOnProperty(name = "upload.layout-migration.enabled", havingValue = "true")
+@Slf4j
+public class UploadLayoutMigration implements ApplicationRunner {
+
+    private final LocalImageStorage imageStorage;
+    private final JdbcTemplate jdbcTemplate;
+    private final int threads;
+    private final int batchSize;
+
+    public UploadLayoutMigration(LocalImageStorage imageStorage,
+                                 JdbcTemplate jdbcTemplate,
+                                 @Value("${upload.layout-migration.threads:8}") int threads,
+                                 @Value("${upload.layout-migration.batch-size:500}") int batchSize) {
+        this.imageStorage = imageStorage;
+        this.jdbcTemplate = jdbcTemplate;
+        this.threads = threads;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Thread thread = new Thread(this::migrate, "upload-migration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 파일 이동 후 URL 변경 (파일을 먼저 옮겨도 예전 URL이 새 위치에서 찾아지므로 순서가 안전함)
+     */
+    public void migrate() {
+        try {
+            long started = System.nanoTime();
+            int moved = imageStorage.moveFlatFiles(threads);
+            log.info("업로드 파일 {}건을 하위 디렉터리로 이동 ({}ms)", moved, (System.nanoTime() - started) / 1_000_000);
+
+            started = System.nanoTime();
+            int rewritten = rewriteImageUrls();
+            log.info("레시피 이미지 URL {}건 변경 ({}ms)", rewritten, (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            log.error("업로드 디렉터리 구조 변경 실패 - 다시 실행하면 이어서 처리됩니다.", e);
+        }
+    }
+
+    // id 키셋으로 batch-size 건씩 읽어, 바뀌는 행만 배치 UPDATE (배치마다 자동 커밋)
+    private int rewriteImageUrls() {
+        int rewritten = 0;
+        long after = 0;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(
+                    "select id, image_url, thumbnail_url, medium_url from recipe " +
+                            "where id > ? and image_url is not null order by id limit ?",
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4)},
+                    after, batchSize);
+            if (rows.isEmpty()) {
+                return rewritten;
+            }
+            List<Object[]> changes = new ArrayList<>();
+            for (Object[] row : rows) {
+                String imageUrl = (String) row[1];
+                String newImageUrl = imageStorage.canonicalUrl(imageUrl);
+                String newThumbnailUrl = imageStorage.canonicalUrl((String) row[2]);
+                String newMediumUrl = imageStorage.canonicalUrl((String) row[3]);
+                if (!imageUrl.equals(newImageUrl) || !Objects.equals(row[2], newThumbnailUrl) || !Objects.equals(row[3], newMediumUrl)) {
+                    // 읽은 뒤 사용자가 이미지를 바꿨으면 (image_url 조건 불일치) 건너뜀
+                    changes.add(new Object[]{newImageUrl, newThumbnailUrl, newMediumUrl, row[0], imageUrl});
+                }
+            }
+            if (!changes.isEmpty()) {
+                jdbcTemplate.batchUpdate("update recipe set image_url = ?, thumbnail_url = ?, medium_url = ? where id = ? and image_url = ?", changes);
+                rewritten += changes.size();
+            }
+            after = (Long) rows.get(rows.size() - 1)[0];
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.likelion.hsu.recipememo.Config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Jackson으로 직렬화하는 모든 응답(생성/수정/개수/오류 응답 포함)에 Vary: Accept 를 붙인다.
+ *
+ * 같은 URL이라도 Accept에 따라 JSON / Smile / CBOR 로 응답하므로(JacksonConfig), 브라우저나 프록시가
+ * 한 형식으로 저장한 응답을 다른 Accept의 요청에 돌려주지 않도록 한다.
+ * 304 응답은 본문을 쓰지 않아 여기를 거치지 않으므로, 검증자를 붙이는 조회 응답은 Controller.ConditionalResponses 에서 직접 붙인다.
+ */
+@ControllerAdvice
+public class VaryAcceptAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        HttpHeaders headers = response.getHeaders();
+        if (!headers.getVary().contains(HttpHeaders.ACCEPT)) { // ResponseEntity에서 이미 붙인 경우 중복 방지
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return body;
+    }
+}
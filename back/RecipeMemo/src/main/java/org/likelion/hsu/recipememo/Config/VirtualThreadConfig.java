@@ -0,0 +1,53 @@
+package org.likelion.hsu.recipememo.Config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 스레드 실행 모드 (recipe.virtual-threads.enabled=true 일 때만 적용, 기본은 Tomcat 고정 워커 풀)
+ *
+ * Tomcat 요청 처리 executor를 요청마다 가상 스레드를 만드는 executor로 바꾼다.
+ * 요청 스레드에서 하는 JDBC 호출과 이미지 파일 쓰기(ImageStorage.store)가 모두 가상 스레드에서 실행되므로,
+ * 업로드가 몰려도 server.tomcat.threads.max 개에서 막히지 않고 커넥션 풀(Hikari)이 동시 처리량의 상한이 된다.
+ *
+ * 빌드는 Java 17 기준이라 가상 스레드 API를 리플렉션으로 찾으며, Java 21 이상에서 실행해야 한다.
+ * Railway 배포는 system.properties의 java.runtime.version을 따르므로, 켤 때 그 값도 21로 함께 올린다.
+ * (JDBC 드라이버의 synchronized 블록에서는 가상 스레드가 캐리어 스레드에 고정될 수 있음)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "recipe.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("요청 처리를 가상 스레드에서 실행합니다.");
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    // 외부에서 넣은 executor는 Tomcat이 종료하지 않으므로 직접 종료 (웹 서버가 먼저 멈춘 뒤 호출됨)
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("가상 스레드 모드는 Java 21 이상에서 실행해야 합니다. (현재: "
+                    + System.getProperty("java.version") + ")", e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드 executor 생성 실패", e);
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package org.likelion.hsu.recipememo.Config;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -14,9 +14,6 @@ import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
-    @Value("${upload.path:uploads/}")
-    private String uploadPath;
-
     /**
      * CORS 매핑 설정
      * 
@@ -33,32 +30,37 @@ public class WebConfig implements WebMvcConfigurer {
                         "http://192.168.*:3000", // 같은 네트워크 내 다른 기기에서 접근
                         "http://192.168.*:3001" // 같은 네트워크 내 다른 기기에서 접근 (3001)
                 ) // 허용할 프론트엔드 주소들
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS") // 허용할 HTTP 메서드들
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS") // 허용할 HTTP 메서드들
                 .allowedHeaders("*") // 모든 헤더 허용
+                .exposedHeaders("X-Next-Cursor") // 사용자별 목록의 다음 페이지 커서를 프론트엔드에서 읽을 수 있도록
                 .allowCredentials(true) // 쿠키, 인증 정보 포함 허용
                 .maxAge(3600); // preflight 요청 캐시 시간 (1시간)
     }
 
+    /**
+     * 문자열 → Category 변환기 등록 (@PathVariable Category category)
+     *
+     * @param registry 변환기 등록 레지스트리
+     */
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(new CategoryConverter());
+    }
+
     /**
      * 정적 리소스 핸들러 설정
-     * 업로드된 이미지 파일들을 HTTP를 통해 접근 가능하도록 설정
+     * 번들된 정적 파일(classpath:/static/)을 HTTP로 접근 가능하도록 설정
      * 
      * @param registry 리소스 핸들러 등록 레지스트리
      */
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 업로드된 이미지 파일 접근 경로 설정
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + uploadPath)
-                .setCachePeriod(3600); // 1시간 캐시
+        // 업로드된 이미지(/uploads/**)는 ImageController가 Range/sendfile을 지원하며 직접 서빙
 
         // 기본 정적 리소스 설정
         registry.addResourceHandler("/static/**")
                 .addResourceLocations("classpath:/static/")
                 .setCachePeriod(31536000); // 1년 캐시 (정적 파일)
-
-        // 개발용: 디버깅을 위한 로그
-        System.out.println("📁 정적 리소스 핸들러 설정 완료: /uploads/** -> file:" + uploadPath);
     }
 
     /**
@@ -0,0 +1,49 @@
+package org.likelion.hsu.recipememo.Controller;
+
+import lombok.Getter;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * API 엔드포인트 목록 (GET /api/health/endpoints 응답 내용)
+ * 개발용 문서라 서버 시작에는 필요 없으므로 첫 조회 때 한 번만 만든다. (@Lazy + HealthController의 ObjectProvider)
+ */
+@Component
+@Lazy
+@Getter
+public class ApiEndpointCatalog {
+
+    private final Map<String, String> recipeEndpoints;
+    private final Map<String, String> healthEndpoints;
+
+    public ApiEndpointCatalog() {
+        Map<String, String> recipe = new LinkedHashMap<>();
+        recipe.put("GET /api/recipes/health", "백엔드 연결 테스트");
+        recipe.put("POST /api/recipes", "레시피 생성");
+        recipe.put("GET /api/recipes/category/{category}?after={cursor}&limit={n}", "카테고리별 레시피 조회 (커서 페이지네이션)");
+        recipe.put("GET /api/recipes/category/{category}/{id}", "특정 레시피 상세 조회");
+        recipe.put("GET /api/recipes/summary?latest={n}", "홈 화면 요약 (카테고리별 개수 + 최신 레시피 n건)");
+        recipe.put("GET /api/recipes/search?title={title}|ingredient={ingredient}|q={keyword}&page={page}", "레시피 검색 (제목/재료/전체)");
+        recipe.put("GET /api/recipes/user/{firebaseUid}?after={cursor}&limit={n}", "사용자별 레시피 조회 (다음 커서: X-Next-Cursor 헤더)");
+        recipe.put("GET /api/recipes/user/{firebaseUid}/count", "사용자별 레시피 개수");
+        recipe.put("PUT /api/recipes/{id}", "레시피 수정");
+        recipe.put("PATCH /api/recipes/{id}", "레시피 부분 수정 (JSON, version이 다르면 409)");
+        recipe.put("DELETE /api/recipes/{id}", "레시피 삭제");
+        recipe.put("GET /api/recipes/{id}", "ID로 레시피 조회");
+        recipe.put("POST /api/recipes/import", "레시피 대량 가져오기 (NDJSON)");
+        recipe.put("GET /api/recipes/export", "레시피 전체 내보내기 (NDJSON)");
+        this.recipeEndpoints = Collections.unmodifiableMap(recipe);
+
+        Map<String, String> health = new LinkedHashMap<>();
+        health.put("GET /api/health", "기본 헬스체크");
+        health.put("GET /api/health/info", "시스템 정보");
+        health.put("GET /api/health/db", "데이터베이스 상태");
+        health.put("GET /api/health/endpoints", "API 엔드포인트 목록");
+        health.put("GET /actuator/prometheus", "Prometheus 메트릭 (응답 시간 히스토그램 등)");
+        this.healthEndpoints = Collections.unmodifiableMap(health);
+    }
+}
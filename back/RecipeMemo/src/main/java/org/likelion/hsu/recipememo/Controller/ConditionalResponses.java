@@ -0,0 +1,75 @@
+package org.likelion.hsu.recipememo.Controller;
+
+import org.likelion.hsu.recipememo.Dto.Response.RecipeResponseDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeTitleResponseDto;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 레시피 JSON 응답에 ETag/Last-Modified 검증자를 붙이는 헬퍼
+ *
+ * 검증자를 담은 ResponseEntity를 반환하면 Spring MVC가 If-None-Match / If-Modified-Since를 비교해
+ * 바뀌지 않은 경우 본문을 직렬화하지 않고 304 Not Modified로 응답한다.
+ * Cache-Control: no-cache → 브라우저는 응답을 저장하되 매번 서버에 재검증한다.
+ * Vary: Accept → 같은 URL이라도 Accept에 따라 JSON / Smile / CBOR 로 응답하므로 형식별로 캐시를 따로 두도록 (304 응답에도 붙음)
+ */
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * 상세 응답: 레시피 ID + 마지막 변경 시각으로 ETag와 Last-Modified를 만든다.
+     */
+    static ResponseEntity<RecipeResponseDto> detail(RecipeResponseDto recipe) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(weakETag(recipe.getId() + "-" + epochMillis(recipe.getUpdatedAt())));
+        if (recipe.getUpdatedAt() != null) {
+            builder.lastModified(recipe.getUpdatedAt());
+        }
+        return builder.body(recipe);
+    }
+
+    /**
+     * 목록 응답: 항목들의 ID/변경 시각과 페이지 정보(extras)로 ETag를 만든다.
+     * 삭제된 항목은 최대 변경 시각에 드러나지 않으므로 목록에는 Last-Modified를 붙이지 않는다.
+     */
+    static <T> ResponseEntity<T> list(T body, List<RecipeTitleResponseDto> items, Object... extras) {
+        return listBuilder(items, extras).body(body);
+    }
+
+    /**
+     * list()와 같은 ETag를 붙인 빌더 (헤더를 더 붙여야 할 때 사용)
+     */
+    static ResponseEntity.BodyBuilder listBuilder(List<RecipeTitleResponseDto> items, Object... extras) {
+        long hash = 1125899906842597L;
+        for (RecipeTitleResponseDto item : items) {
+            hash = 31 * hash + Objects.hashCode(item.getId());
+            hash = 31 * hash + epochMillis(item.getUpdatedAt());
+        }
+        for (Object extra : extras) {
+            hash = 31 * hash + Objects.hashCode(extra);
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(weakETag(items.size() + "-" + Long.toHexString(hash)));
+    }
+
+    // 같은 내용이면 같은 JSON이지만 바이트 단위 동일성(압축 등)까지 보장하지는 않으므로 약한 ETag 사용
+    private static String weakETag(String value) {
+        return "W/\"" + value + "\"";
+    }
+
+    // 컬럼 추가 전에 저장된 레시피는 updatedAt이 없으므로 0으로 취급
+    private static long epochMillis(Instant instant) {
+        return instant == null ? 0L : instant.toEpochMilli();
+    }
+}
@@ -1,6 +1,11 @@
 package org.likelion.hsu.recipememo.Controller;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.search.Search;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.core.env.Environment;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,6 +17,7 @@ import java.sql.Connection;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 애플리케이션 상태 모니터링 컨트롤러
@@ -24,6 +30,8 @@ public class HealthController {
 
     private final Environment environment;
     private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<ApiEndpointCatalog> endpointCatalog; // 첫 조회 때 생성
 
     /**
      * 기본 헬스체크 엔드포인트
@@ -59,15 +67,25 @@ public class HealthController {
         info.put("javaVersion", System.getProperty("java.version"));
         info.put("springBootVersion", org.springframework.boot.SpringBootVersion.getVersion());
 
-        // 시스템 리소스 정보
-        Runtime runtime = Runtime.getRuntime();
+        // 시스템 리소스 정보 (/actuator/prometheus 와 같은 Micrometer JVM 메트릭 사용)
         Map<String, Object> memory = new HashMap<>();
-        memory.put("total", runtime.totalMemory() / (1024 * 1024) + " MB");
-        memory.put("free", runtime.freeMemory() / (1024 * 1024) + " MB");
-        memory.put("used", (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024) + " MB");
-        memory.put("max", runtime.maxMemory() / (1024 * 1024) + " MB");
+        memory.put("heapUsed", toMegabytes(sum(meterRegistry.find("jvm.memory.used").tag("area", "heap"))) + " MB");
+        memory.put("heapCommitted", toMegabytes(sum(meterRegistry.find("jvm.memory.committed").tag("area", "heap"))) + " MB");
+        memory.put("heapMax", toMegabytes(sum(meterRegistry.find("jvm.memory.max").tag("area", "heap"))) + " MB");
+        memory.put("nonHeapUsed", toMegabytes(sum(meterRegistry.find("jvm.memory.used").tag("area", "nonheap"))) + " MB");
         info.put("memory", memory);
 
+        Map<String, Object> gc = new HashMap<>();
+        long pauseCount = 0;
+        double pauseMillis = 0;
+        for (Timer pause : meterRegistry.find("jvm.gc.pause").timers()) {
+            pauseCount += pause.count();
+            pauseMillis += pause.totalTime(TimeUnit.MILLISECONDS);
+        }
+        gc.put("pauseCount", pauseCount);
+        gc.put("pauseTotal", Math.round(pauseMillis) + " ms");
+        info.put("gc", gc);
+
         // 데이터베이스 상태 확인
         info.put("database", checkDatabaseHealth());
 
@@ -96,30 +114,26 @@ public class HealthController {
     public ResponseEntity<Map<String, Object>> availableEndpoints() {
         Map<String, Object> endpoints = new HashMap<>();
 
-        Map<String, String> recipeEndpoints = new HashMap<>();
-        recipeEndpoints.put("GET /api/recipes/health", "백엔드 연결 테스트");
-        recipeEndpoints.put("POST /api/recipes", "레시피 생성");
-        recipeEndpoints.put("GET /api/recipes/category/{category}", "카테고리별 레시피 조회");
-        recipeEndpoints.put("GET /api/recipes/category/{category}/{id}", "특정 레시피 상세 조회");
-        recipeEndpoints.put("GET /api/recipes/search?title={title}", "레시피 검색");
-        recipeEndpoints.put("GET /api/recipes/user/{firebaseUid}", "사용자별 레시피 조회");
-        recipeEndpoints.put("PUT /api/recipes/{id}", "레시피 수정");
-        recipeEndpoints.put("DELETE /api/recipes/{id}", "레시피 삭제");
-        recipeEndpoints.put("GET /api/recipes/{id}", "ID로 레시피 조회");
-
-        Map<String, String> healthEndpoints = new HashMap<>();
-        healthEndpoints.put("GET /api/health", "기본 헬스체크");
-        healthEndpoints.put("GET /api/health/info", "시스템 정보");
-        healthEndpoints.put("GET /api/health/db", "데이터베이스 상태");
-        healthEndpoints.put("GET /api/health/endpoints", "API 엔드포인트 목록");
-
-        endpoints.put("recipe", recipeEndpoints);
-        endpoints.put("health", healthEndpoints);
+        ApiEndpointCatalog catalog = endpointCatalog.getObject();
+        endpoints.put("recipe", catalog.getRecipeEndpoints());
+        endpoints.put("health", catalog.getHealthEndpoints());
         endpoints.put("timestamp", LocalDateTime.now().toString());
 
         return ResponseEntity.ok(endpoints);
     }
 
+    // 메모리 풀(Eden, Old Gen 등)별로 나뉜 게이지를 합산 (max가 정해지지 않은 풀은 -1이므로 제외)
+    private double sum(Search search) {
+        return search.gauges().stream()
+                .mapToDouble(Gauge::value)
+                .filter(value -> value > 0)
+                .sum();
+    }
+
+    private long toMegabytes(double bytes) {
+        return (long) (bytes / (1024 * 1024));
+    }
+
     /**
      * 데이터베이스 연결 상태 확인 헬퍼 메서드
      */
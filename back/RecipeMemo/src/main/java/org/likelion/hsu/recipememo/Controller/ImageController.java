@@ -0,0 +1,181 @@
+package org.likelion.hsu.recipememo.Controller;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.likelion.hsu.recipememo.Storage.ImageStorage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 업로드 이미지(/uploads/**) 전용 서빙 컨트롤러
+ *
+ * - 파일 크기/수정 시각/Content-Type/ETag는 파일별로 한 번만 계산해 캐시한다. (업로드 파일은 내용 해시 이름이라 바뀌지 않음)
+ * - 예전 평면 구조 URL(/uploads/{이름})과 하위 디렉터리 구조 URL(/uploads/ab/cd/{이름})은 저장소가 양쪽 위치에서 찾아 준다.
+ * - Range 요청(단일 구간)을 지원해 206 Partial Content로 응답한다.
+ * - Tomcat이 sendfile을 지원하면 본문은 컨테이너에 맡긴다. 서블릿 스레드는 헤더만 쓰고 바로 반환되고,
+ *   실제 전송은 Tomcat poller 스레드가 커널 sendfile로 처리하므로 API 요청 스레드를 붙잡지 않는다.
+ * - sendfile을 쓸 수 없으면 FileChannel.transferTo로 힙 버퍼 없이 응답 스트림에 보낸다.
+ */
+@RestController
+public class ImageController {
+
+    static final String CACHE_CONTROL = "public, max-age=31536000, immutable"; // 1년, 재검증 불필요
+
+    private static final String UPLOADS_PREFIX = "/uploads/";
+
+    // Tomcat sendfile 요청 속성 (org.apache.tomcat.util.net.Constants 의 값과 동일)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper(); // 기본값: URL 디코딩, ;jsessionid 등 제거
+
+    private final ImageStorage imageStorage;
+
+    // 이미지 URL → 미리 계산한 응답 헤더 값 (삭제된 파일 항목은 만료 시간 뒤에 사라짐)
+    private final Cache<String, ImageFile> files = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public ImageController(ImageStorage imageStorage) {
+        this.imageStorage = imageStorage;
+    }
+
+    @GetMapping(UPLOADS_PREFIX + "**")
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // getRequestURI()는 퍼센트 인코딩된 그대로라 한글/공백이 든 예전 파일명(UUID_원본이름)과 맞지 않으므로 디코딩한 경로 사용
+        // (../ 등 디렉터리 밖을 가리키는 경로는 디코딩 후 저장소의 resolve()가 걸러 냄)
+        String imageUrl = URL_PATH_HELPER.getPathWithinApplication(request);
+        ImageFile file = lookup(imageUrl);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // If-None-Match / If-Modified-Since 가 맞으면 304 상태와 ETag까지 설정됨
+        if (new ServletWebRequest(request, response).checkNotModified(file.etag, file.lastModified)) {
+            return;
+        }
+        response.setContentType(file.contentType);
+
+        long start = 0;
+        long end = file.length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && rangeStillValid(request, file)) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) { // 여러 구간(multipart/byteranges)은 지원하지 않고 전체를 보냄
+                    start = ranges.get(0).getRangeStart(file.length);
+                    end = ranges.get(0).getRangeEnd(file.length);
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + file.length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.length);
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+        }
+        response.setContentLengthLong(end - start + 1);
+
+        if ("HEAD".equals(request.getMethod()) || end < start) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1); // end는 포함하지 않는 위치
+            return;
+        }
+        transfer(imageUrl, file, start, end, response);
+    }
+
+    // 메타데이터 캐시 조회 (없으면 파일 속성을 한 번 읽어 채움)
+    private ImageFile lookup(String imageUrl) throws IOException {
+        ImageFile cached = files.getIfPresent(imageUrl);
+        if (cached != null) {
+            return cached;
+        }
+        Path path = imageStorage.locate(imageUrl);
+        if (path == null) {
+            return null;
+        }
+        String fileName = path.getFileName().toString();
+        ImageFile file = new ImageFile(path,
+                Files.size(path),
+                Files.getLastModifiedTime(path).toMillis(),
+                "\"" + fileName + "\"", // 파일명이 곧 내용 해시 → 강한 ETag
+                MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        if (path.endsWith(imageUrl.substring(UPLOADS_PREFIX.length()))) {
+            files.put(imageUrl, file); // 예전 경로 URL로 다른 위치에서 찾은 파일은 이동 중일 수 있어 캐시하지 않음
+        }
+        return file;
+    }
+
+    // If-Range가 현재 ETag와 다르면 Range를 무시하고 전체를 보냄 (날짜 형식 If-Range도 전체 전송)
+    private static boolean rangeStillValid(HttpServletRequest request, ImageFile file) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        return ifRange == null || ifRange.equals(file.etag);
+    }
+
+    private void transfer(String imageUrl, ImageFile file, long start, long end, HttpServletResponse response)
+            throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file.path, StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            files.invalidate(imageUrl); // 캐시된 사이 삭제된 파일
+            response.reset();
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        try (channel) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                position += channel.transferTo(position, end + 1 - position, out);
+            }
+        }
+    }
+
+    // 파일 하나에 대해 미리 계산해 둔 응답 정보
+    private static final class ImageFile {
+        private final Path path;
+        private final long length;
+        private final long lastModified;
+        private final String etag;
+        private final String contentType;
+
+        private ImageFile(Path path, long length, long lastModified, String etag, String contentType) {
+            this.path = path;
+            this.length = length;
+            this.lastModified = lastModified;
+            this.etag = etag;
+            this.contentType = contentType;
+        }
+    }
+}
@@ -1,35 +1,87 @@
 package org.likelion.hsu.recipememo.Controller;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.likelion.hsu.recipememo.Dto.Response.CategorySummaryResponseDto;
+import org.likelion.hsu.recipememo.Dto.Response.HomeSummaryResponseDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeColumnsResponseDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeCursorPageDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeImportResponseDto;
 import org.likelion.hsu.recipememo.Dto.Response.RecipeListResponseDto;
 import org.likelion.hsu.recipememo.Dto.Request.RecipeRequestDto;
 import org.likelion.hsu.recipememo.Dto.Response.RecipeResponseDto;
 import org.likelion.hsu.recipememo.Dto.Response.RecipeSearchResponseDto;
 import org.likelion.hsu.recipememo.Dto.Response.RecipeTitleResponseDto;
 import org.likelion.hsu.recipememo.Enum.Category;
+import org.likelion.hsu.recipememo.Enum.InvalidCategoryException;
+import org.likelion.hsu.recipememo.Service.CategoryStatService;
+import org.likelion.hsu.recipememo.Service.RecipeBulkService;
+import org.likelion.hsu.recipememo.Service.RecipeNotFoundException;
+import org.likelion.hsu.recipememo.Service.RecipeSearchIndex;
 import org.likelion.hsu.recipememo.Service.RecipeService;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.Part;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 @RestController
 @RequestMapping("/api/recipes")
 @RequiredArgsConstructor
+@Slf4j
 public class RecipeController {
 
     // 컨트롤러에서 레시피 관련 기능을 쓸 수 있도록, RecipeService를 주입 받는 선언
     private final RecipeService recipeService;
 
+    // 대량 가져오기/내보내기
+    private final RecipeBulkService recipeBulkService;
+
+    // 홈 화면 카테고리 요약 (카테고리별 개수 + 최신 레시피)
+    private final CategoryStatService categoryStatService;
+
+    // "recipe" JSON 파트를 읽는 공유 리더 (JacksonConfig)
+    private final ObjectReader recipeRequestReader;
+
+    // 등록/수정 요청 디버그 로그 샘플링 (100건 중 1건)
+    private static final int LOG_SAMPLE_RATE = 100;
+    private final AtomicLong writeRequests = new AtomicLong();
+
+    // 없는 레시피 응답 본문 (요청마다 만들지 않도록 고정)
+    private static final Map<String, String> RECIPE_NOT_FOUND_BODY =
+            Map.of("error", "RECIPE_NOT_FOUND", "message", "레시피를 찾을 수 없습니다.");
+
+    // 사용자별 목록의 다음 페이지 커서를 담는 응답 헤더
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    // 목록 조회 페이지 크기 (limit 파라미터 기본값 / 최대값)
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    // after/limit 없이 호출하는 기존 클라이언트에게 한 번에 주는 최대 개수 (더 있으면 nextCursor / X-Next-Cursor로 알림)
+    static final int LEGACY_PAGE_SIZE = 1000;
+
+    // 목록을 열 형식(RecipeColumnsResponseDto)으로 받을 때의 요청 파라미터
+    private static final String COLUMNAR_FORMAT = "format=columnar";
+
+    // 홈 화면 요약의 카테고리별 미리보기 개수 (latest 파라미터 기본값 / 최대값)
+    private static final int DEFAULT_SUMMARY_PREVIEW = 4;
+    private static final int MAX_SUMMARY_PREVIEW = 20;
+
     // API 연결 테스트용 엔드포인트
     @GetMapping("/health")
     public ResponseEntity<Map<String, String>> healthCheck() {
@@ -43,117 +95,193 @@ public class RecipeController {
     // 레시피 생성(사용자가 JSON + 이미지 파일을 함께 업로드해서 레시피를 등록하는 기능)
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<RecipeResponseDto> createRecipe(
-            @RequestPart("recipe") String recipeJson, // multipart/form-data의 part 이름이 "recipe"인 문자열을 받음
+            @RequestPart("recipe") Part recipePart, // multipart/form-data의 part 이름이 "recipe"인 JSON 파트
             @RequestPart(value = "imageFile", required = false) MultipartFile imageFile // required = false → 이미지 파일은
                                                                                         // 필수가 아님 (이미지 없이도 등록 가능)
     ) throws IOException {
-        try {
-            ObjectMapper mapper = new ObjectMapper(); // JSON 처리 도구 생성 (Jackson 라이브러리 사용)
-            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false); // 알 수 없는 속성 무시
-            mapper.configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true); // 빈 문자열을 null로 처리
-
-            System.out.println("Received JSON: " + recipeJson); // 디버깅용 로그
-
-            RecipeRequestDto dto = mapper.readValue(recipeJson, RecipeRequestDto.class); // JSON 문자열 → RecipeRequestDto
-                                                                                         // 객체로 변환
-
-            System.out.println("Parsed DTO: " + dto.getTitle() + ", ingredients: " + dto.getIngredients()); // 디버깅용 로그
-
-            return ResponseEntity.status(HttpStatus.CREATED).body(recipeService.createRecipeWithImage(dto, imageFile));
-        } catch (JsonProcessingException e) {
-            System.err.println("JSON parsing error: " + e.getMessage());
-            System.err.println("Received JSON content: " + recipeJson);
-            e.printStackTrace();
-
-            Map<String, String> errorResponse = new HashMap<>();
-            errorResponse.put("error", "JSON 파싱 오류");
-            errorResponse.put("message", "요청 데이터 형식이 올바르지 않습니다: " + e.getMessage());
-            errorResponse.put("receivedData", recipeJson);
-
-            return ResponseEntity.badRequest().body(null);
-        } catch (Exception e) {
-            System.err.println("Unexpected error: " + e.getMessage());
-            e.printStackTrace();
-            throw e;
-        }
+        RecipeRequestDto dto = readRecipe(recipePart); // JSON → RecipeRequestDto 객체로 변환
+        logSampled("등록", dto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(recipeService.createRecipeWithImage(dto, imageFile));
         // 서비스 계층의 createRecipeWithImage(dto, imageFile) 메서드에 변환된 DTO와 이미지 파일 전달
+        // JSON 형식이 잘못되면 JsonProcessingException → 아래 예외 처리기가 400 응답
     }
-    // 클라이언트가 multipart/form-data 형식으로 보낸 JSON 문자열 + 이미지 파일을 받아서,
-    // JSON 문자열을 자바 객체(DTO)로 변환하고,
+    // 클라이언트가 multipart/form-data 형식으로 보낸 JSON 파트 + 이미지 파일을 받아서,
+    // JSON 파트를 문자열로 만들지 않고 스트림에서 바로 자바 객체(DTO)로 변환하고,
     // 서비스 계층으로 전달하여 DB에 저장 + 이미지 파일 서버에 저장,
     // 성공 시 201 CREATED 응답과 함께 저장된 레시피 정보를 반환.
 
     // 카테고리 클릭 시 요리 제목 + 이미지 목록 조회
     @GetMapping("/category/{category}")
-    public ResponseEntity<RecipeListResponseDto> getRecipeTitlesByCategory(@PathVariable String category) {
-        return ResponseEntity.ok(recipeService.getAllTitlesByCategory(Category.valueOf(category.toUpperCase())));
+    public ResponseEntity<RecipeListResponseDto> getRecipeTitlesByCategory(
+            @PathVariable(required = false) Category category, // 알 수 없는 값이면 null (CategoryConverter)
+            @RequestParam(value = "after", required = false) Long after, // 이전 응답의 nextCursor
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        if (category == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        RecipeListResponseDto page = recipeService.getTitlesByCategory(category, after, pageSize(after, limit));
+        return ConditionalResponses.list(page, page.getRecipes(), page.getCategory(), page.getNextCursor());
+    }
+
+    // 같은 카테고리 목록을 열 형식으로 (모바일 앱용, 항목마다 키 이름을 반복하지 않음)
+    @GetMapping(value = "/category/{category}", params = COLUMNAR_FORMAT)
+    public ResponseEntity<RecipeColumnsResponseDto> getRecipeTitleColumnsByCategory(
+            @PathVariable(required = false) Category category,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        if (category == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        RecipeListResponseDto page = recipeService.getTitlesByCategory(category, after, clampLimit(limit));
+        RecipeColumnsResponseDto columns = RecipeColumnsResponseDto.from(page.getRecipes());
+        columns.setCategory(page.getCategory());
+        columns.setNextCursor(page.getNextCursor());
+        return ConditionalResponses.list(columns, page.getRecipes(), page.getCategory(), page.getNextCursor());
     }
-    // @PathVariable String category: 클라이언트가 URL에 넣은 category 값을 메서드 파라미터로 받아옵니다. 예:
-    // /category/KOREAN → category = "KOREAN"
-    // recipeService.getAllTitlesByCategory(...): 실제로 DB에서 해당 카테고리에 해당하는 레시피들을 조회하는
+    // 요청 예시: GET /api/recipes/category/KOREAN?format=columnar&limit=20
+    // → {"category":"한식","ids":[...],"titles":[...],"images":[...],"thumbnails":[...],"mediums":[...],"nextCursor":1234}
+    // params = "format=columnar": 이 파라미터가 있을 때만 이 메서드가 선택되고, 없으면 위의 기존 형식 그대로
+    // 요청 예시: GET /api/recipes/category/KOREAN → 전체 목록 (after/limit을 보내지 않는 기존 클라이언트 호환, nextCursor 없음)
+    //          GET /api/recipes/category/KOREAN?limit=20 → 첫 페이지
+    //          GET /api/recipes/category/KOREAN?after=1234&limit=20 → 응답의 nextCursor(1234) 이후 페이지
+    // nextCursor가 null이면 마지막 페이지.
+    // 응답의 ETag를 If-None-Match로 다시 보내면, 목록이 그대로일 때 본문 없이 304가 돌아옴
+    // @PathVariable Category category: 클라이언트가 URL에 넣은 category 값을 WebConfig에 등록한 CategoryConverter가
+    // enum으로 바꿔서 넘겨줍니다. 예: /category/KOREAN, /category/korean, /category/한식 → Category.KOREAN
+    // 없는 카테고리(/category/abc)는 예외 없이 null로 들어오므로 바로 400 Bad Request로 응답합니다.
+    // recipeService.getTitlesByCategory(...): 실제로 DB에서 해당 카테고리에 해당하는 레시피들을 한 페이지만 조회하는
     // 서비스 로직을 호출합니다.
-    // Category.valueOf(category.toUpperCase()): 문자열을 enum Category로 바꾸는 코드.
-    // valueOf()는 반드시 대문자로 된 enum 이름이 필요하기 때문에 .toUpperCase()를 붙임.
+
+    // 홈 화면: 카테고리별 레시피 개수와 최신 레시피 미리보기를 한 번에 조회
+    @GetMapping("/summary")
+    public ResponseEntity<HomeSummaryResponseDto> getHomeSummary(
+            @RequestParam(value = "latest", defaultValue = "" + DEFAULT_SUMMARY_PREVIEW) int latest) {
+        HomeSummaryResponseDto summary = categoryStatService.getSummary(Math.max(0, Math.min(latest, MAX_SUMMARY_PREVIEW)));
+        List<RecipeTitleResponseDto> previews = new ArrayList<>();
+        List<Long> counts = new ArrayList<>();
+        for (CategorySummaryResponseDto category : summary.getCategories()) {
+            previews.addAll(category.getRecipes());
+            counts.add(category.getCount());
+        }
+        return ConditionalResponses.list(summary, previews, counts);
+    }
+    // 카테고리 목록을 네 번 부르지 않아도 되도록 개수(미리 계산된 값)와 미리보기를 함께 내려줌
+    // 개수는 CategoryStat 테이블에서 읽으므로 COUNT(*)를 하지 않음
 
     // 제목 클릭 시 상세 레시피 조회
     @GetMapping("/category/{category}/{id}")
-    public ResponseEntity<RecipeResponseDto> getRecipeByCategoryAndId(@PathVariable String category,
+    public ResponseEntity<RecipeResponseDto> getRecipeByCategoryAndId(@PathVariable(required = false) Category category,
             @PathVariable Long id) {
-        return ResponseEntity.ok(recipeService.getRecipeByCategoryAndId(Category.valueOf(category.toUpperCase()), id));
+        if (category == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ConditionalResponses.detail(recipeService.getRecipeByCategoryAndId(category, id));
     }
     // @PathVariable Long id: URL 경로의 {id} 값을 받아옴.
     // recipeService.getRecipeByCategoryAndId(...): 서비스 계층에 카테고리 + ID를 전달해서 해당 레시피를
     // DB에서 찾아옴.
+    // ETag/Last-Modified가 함께 내려가므로 If-None-Match 또는 If-Modified-Since로 재검증하면
+    // 바뀌지 않은 레시피는 본문 없이 304 Not Modified로 응답
 
-    // 레시피 제목 검색
+    // 레시피 검색 (제목 / 재료 / 전체)
     @GetMapping("/search")
-    public ResponseEntity<RecipeSearchResponseDto> searchRecipes(@RequestParam("title") String title) {
-        return ResponseEntity.ok(recipeService.searchRecipesByTitle(title));
+    public ResponseEntity<RecipeSearchResponseDto> searchRecipes(
+            @RequestParam(value = "title", required = false) String title,
+            @RequestParam(value = "ingredient", required = false) String ingredient,
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+        RecipeSearchResponseDto result = search(title, ingredient, query, page, size);
+        return ConditionalResponses.list(result, result.getResults(), result.getTotal(), result.getNextPage());
+    }
+
+    // 검색 결과를 열 형식으로 (GET /api/recipes/search?q=김치&format=columnar)
+    @GetMapping(value = "/search", params = COLUMNAR_FORMAT)
+    public ResponseEntity<RecipeColumnsResponseDto> searchRecipeColumns(
+            @RequestParam(value = "title", required = false) String title,
+            @RequestParam(value = "ingredient", required = false) String ingredient,
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+        RecipeSearchResponseDto result = search(title, ingredient, query, page, size);
+        RecipeColumnsResponseDto columns = RecipeColumnsResponseDto.from(result.getResults());
+        columns.setTotal(result.getTotal());
+        columns.setNextPage(result.getNextPage());
+        return ConditionalResponses.list(columns, result.getResults(), result.getTotal(), result.getNextPage());
     }
     // 예를들어 사용자가 이와 같이 요청하면 GET /api/recipes/search?title=김치
     // @RequestParam("title")가 김치 값을 title 변수에 넣어주고
-    // recipeService.searchRecipesByTitle("김치")가 실행됨
-    // 즉, 파라미터 이름만 "q"에서 "title"로 바꾼 거고, 기능이나 동작은 완전히 동일함
-    // 프론트에서 보낼 파라미터 이름이 "title"일 때 (예: axios.get('/search?title=김치')) q->title로 바꾸면
-    // 좋음(코드 가독성이 좋아짐)
+    // recipeService.searchRecipes("김치", [TITLE], 0, 20)이 실행됨 → 제목에 "김치"가 들어간 레시피
+    // GET /api/recipes/search?ingredient=두부 → 재료에 "두부"가 들어간 레시피
+    // GET /api/recipes/search?q=김치&page=1 → 제목/재료/내용 전체에서 검색, 제목 일치가 가장 앞에 옴 (두 번째 페이지)
+    // 응답의 nextPage가 null이 아니면 그 값을 page로 넘겨 다음 페이지를 조회
 
-    // 특정 사용자가 작성한 모든 레시피의 제목과 이미지 정보를 조회
+    // 특정 사용자가 작성한 레시피의 제목과 이미지 정보를 최신순으로 한 페이지씩 조회
     @GetMapping("/user/{firebaseUid}")
-    public ResponseEntity<List<RecipeTitleResponseDto>> getRecipesByUser(@PathVariable String firebaseUid) {
-        return ResponseEntity.ok(recipeService.getRecipesByFirebaseUid(firebaseUid));
+    public ResponseEntity<List<RecipeTitleResponseDto>> getRecipesByUser(
+            @PathVariable String firebaseUid,
+            @RequestParam(value = "after", required = false) Long after, // 이전 응답의 X-Next-Cursor 값
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        RecipeCursorPageDto page = recipeService.getRecipesByFirebaseUid(firebaseUid, after, pageSize(after, limit));
+        ResponseEntity.BodyBuilder response = ConditionalResponses.listBuilder(page.getRecipes(), page.getNextCursor());
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()));
+        }
+        return response.body(page.getRecipes());
     }
-    // 요청 예시: GET /api/recipes/user/abc123
+
+    // 사용자별 목록을 열 형식으로 (다음 페이지 커서는 본문의 nextCursor와 X-Next-Cursor 헤더 모두에)
+    @GetMapping(value = "/user/{firebaseUid}", params = COLUMNAR_FORMAT)
+    public ResponseEntity<RecipeColumnsResponseDto> getRecipeColumnsByUser(
+            @PathVariable String firebaseUid,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        RecipeCursorPageDto page = recipeService.getRecipesByFirebaseUid(firebaseUid, after, clampLimit(limit));
+        RecipeColumnsResponseDto columns = RecipeColumnsResponseDto.from(page.getRecipes());
+        columns.setNextCursor(page.getNextCursor());
+        ResponseEntity.BodyBuilder response = ConditionalResponses.listBuilder(page.getRecipes(), page.getNextCursor());
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()));
+        }
+        return response.body(columns);
+    }
+    // 요청 예시: GET /api/recipes/user/abc123 → 최신 LEGACY_PAGE_SIZE(1000)개 (after/limit을 보내지 않는 기존 클라이언트 호환)
+    //          GET /api/recipes/user/abc123?limit=20 → 첫 페이지 (최신 20개)
+    //          GET /api/recipes/user/abc123?after=1234&limit=20 → 응답 헤더 X-Next-Cursor(1234) 이후 페이지
     // → abc123은 Firebase에서 발급받은 고유 사용자 UID(UserID)
-    // 서비스 계층에 UID를 전달하여 해당 사용자의 레시피들을 조회
+    // 응답 본문은 기존처럼 배열 그대로이고, 다음 페이지 커서만 헤더로 전달 (헤더가 없으면 마지막 페이지)
+    // 페이지로 요청하면 (firebase_uid, id) 인덱스를 따라 limit + 1 개만 읽으므로 사용자의 레시피 수와 상관없이 일정한 시간에 응답
+
+    // 특정 사용자가 작성한 레시피 개수
+    @GetMapping("/user/{firebaseUid}/count")
+    public ResponseEntity<Map<String, Long>> countRecipesByUser(@PathVariable String firebaseUid) {
+        return ResponseEntity.ok(Collections.singletonMap("count", recipeService.countRecipesByFirebaseUid(firebaseUid)));
+    }
+    // 요청 예시: GET /api/recipes/user/abc123/count → {"count": 42}
+    // 마이페이지에서 전체 개수만 필요할 때 목록을 받지 않고 개수만 조회
 
     // 특정 레시피 ID를 대상으로 전체 수정
     @PutMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<RecipeResponseDto> updateRecipe(
             @PathVariable Long id,
-            @RequestPart("recipe") String recipeJson,
+            @RequestPart("recipe") Part recipePart,
             @RequestPart(value = "imageFile", required = false) MultipartFile imageFile) throws IOException {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-            mapper.configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true);
-
-            RecipeRequestDto dto = mapper.readValue(recipeJson, RecipeRequestDto.class);
-            return ResponseEntity.ok(recipeService.updateRecipe(id, dto, imageFile));
-        } catch (JsonProcessingException e) {
-            System.err.println("JSON parsing error in update: " + e.getMessage());
-            System.err.println("Received JSON content: " + recipeJson);
-            e.printStackTrace();
-
-            return ResponseEntity.badRequest().body(null);
-        } catch (Exception e) {
-            System.err.println("Unexpected error in update: " + e.getMessage());
-            e.printStackTrace();
-            throw e;
-        }
+        RecipeRequestDto dto = readRecipe(recipePart);
+        logSampled("수정", dto);
+        return ResponseEntity.ok(recipeService.updateRecipe(id, dto, imageFile));
     }
     // @RequestBody RecipeRequestDto dto → 사용자가 보낸 새로운 내용들 (제목, 카테고리, 내용, 과정 등)
     // recipeService.updateRecipe(id, dto) → 해당 ID의 레시피를 찾아서 새 값으로 갱신
 
+    // 특정 레시피의 일부 필드만 수정 (JSON 본문에 있는 필드만 반영, 이미지는 PUT으로 교체)
+    // null인 필드도 "그대로 둠"으로 처리하므로 RFC 7396(merge-patch, null = 삭제)이 아닌 일반 JSON 본문만 받음
+    @PatchMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<RecipeResponseDto> patchRecipe(@PathVariable Long id, @RequestBody RecipeRequestDto dto) {
+        logSampled("부분 수정", dto);
+        return ResponseEntity.ok(recipeService.patchRecipe(id, dto));
+    }
+    // 예: {"title": "새 제목", "version": 3} → 제목만 바뀌고, 그 사이 다른 수정으로 version이 바뀌었으면 409 Conflict
+
     // URL에 /api/recipes/3처럼 ID를 지정해서 삭제 요청
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteRecipe(@PathVariable Long id) {
@@ -167,15 +295,82 @@ public class RecipeController {
     // → DELETE 요청 처리 시에 아주 정석적으로 쓰이는 방식
     // → noContent(): 상태 코드 204 No Content를 의미함
 
+    // 레시피 대량 가져오기 (요청 본문: NDJSON, 한 줄에 레시피 JSON 하나)
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<RecipeImportResponseDto> importRecipes(InputStream body) throws IOException {
+        return ResponseEntity.ok(recipeBulkService.importRecipes(body));
+    }
+    // 요청 예시: curl -X POST -H 'Content-Type: application/x-ndjson' --data-binary @recipes.ndjson /api/recipes/import
+    // 본문을 메모리에 모두 올리지 않고 스트림에서 한 줄씩 읽어 배치 단위로 저장
+    // 응답: 저장 건수, 건너뛴 줄 수와 사유
+
+    // 레시피 전체 내보내기 (NDJSON) - 결과 파일을 그대로 /import 에 넣을 수 있음
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportRecipes(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        recipeBulkService.exportRecipes(response.getOutputStream());
+    }
+    // 응답 스트림에 청크 단위로 바로 쓰므로 레시피 수와 상관없이 서버 메모리를 일정하게 사용
+    // (StreamingResponseBody 비동기 처리의 요청 타임아웃에 걸리지 않도록 요청 스레드에서 직접 씀)
+
     // ID만으로 개별 레시피 상세 조회 - 마이페이지에서 사용 (맨 마지막에 배치)
     @GetMapping("/{id}")
     public ResponseEntity<RecipeResponseDto> getRecipeById(@PathVariable Long id) {
-        return ResponseEntity.ok(recipeService.getRecipeById(id));
+        return ConditionalResponses.detail(recipeService.getRecipeById(id));
     }
     // 요청 예시: GET /api/recipes/123
     // → ID가 123인 레시피의 상세 정보를 조회
     // 카테고리 구분 없이 ID만으로 바로 조회
 
+    // "recipe" 파트의 JSON을 공유 ObjectReader로 스트림에서 바로 읽음 (문자열/매퍼를 요청마다 만들지 않음)
+    private RecipeRequestDto readRecipe(Part recipePart) throws IOException {
+        try (InputStream in = recipePart.getInputStream()) {
+            return recipeRequestReader.readValue(in);
+        }
+    }
+
+    // 등록/수정 요청 LOG_SAMPLE_RATE 건 중 1건만 요약 로그 (본문 전체는 남기지 않음)
+    private void logSampled(String action, RecipeRequestDto dto) {
+        if (log.isDebugEnabled() && writeRequests.getAndIncrement() % LOG_SAMPLE_RATE == 0) {
+            log.debug("레시피 {} 요청: title={}, category={}, ingredients={}개, steps={}개", action, dto.getTitle(),
+                    dto.getCategory(), sizeOf(dto.getIngredients()), sizeOf(dto.getSteps()));
+        }
+    }
+
+    private static int sizeOf(List<String> values) {
+        return values == null ? 0 : values.size();
+    }
+
+    // q(전체) > ingredient(재료) > title(제목) 순으로 하나만 골라 검색
+    private RecipeSearchResponseDto search(String title, String ingredient, String query, int page, int size) {
+        if (query != null) {
+            return recipeService.searchRecipes(query,
+                    EnumSet.allOf(RecipeSearchIndex.Field.class), Math.max(page, 0), clampLimit(size));
+        }
+        if (ingredient != null) {
+            return recipeService.searchRecipes(ingredient,
+                    EnumSet.of(RecipeSearchIndex.Field.INGREDIENT), Math.max(page, 0), clampLimit(size));
+        }
+        return recipeService.searchRecipes(title,
+                EnumSet.of(RecipeSearchIndex.Field.TITLE), Math.max(page, 0), clampLimit(size));
+    }
+
+    // after/limit을 둘 다 보내지 않으면 LEGACY_PAGE_SIZE 개까지 (페이지네이션 이전부터 목록을 한 번에 받던 클라이언트용)
+    // 목록 전체를 메모리에 올리거나 캐시에 넣지 않도록 상한을 둔다.
+    // 둘 중 하나라도 있으면 limit(기본 DEFAULT_PAGE_SIZE)만큼 한 페이지
+    private static int pageSize(Long after, Integer limit) {
+        if (after == null && limit == null) {
+            return LEGACY_PAGE_SIZE;
+        }
+        return clampLimit(limit == null ? DEFAULT_PAGE_SIZE : limit);
+    }
+
+    // limit 파라미터를 1 ~ MAX_PAGE_SIZE 범위로 보정
+    private static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
     /**
      * 전역 예외 처리기 - JSON 파싱 오류 처리
      */
@@ -189,6 +384,44 @@ public class RecipeController {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    /**
+     * 요청 본문의 알 수 없는 카테고리 → 400 (아래 RuntimeException 처리기보다 구체적인 예외라 먼저 적용됨)
+     */
+    @ExceptionHandler(InvalidCategoryException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidCategory(InvalidCategoryException e) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "INVALID_CATEGORY");
+        errorResponse.put("message", "알 수 없는 카테고리입니다: " + e.getCategory() + " (한식, 일식, 중식, 양식 중 하나)");
+        errorResponse.put("timestamp", java.time.LocalDateTime.now().toString());
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    /**
+     * 없는 레시피 → 404
+     * 스택 트레이스 없는 예외이고 응답 본문도 고정이므로, ID를 훑는 요청이 많아도 비용이 거의 들지 않는다.
+     */
+    @ExceptionHandler(RecipeNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleRecipeNotFound(RecipeNotFoundException e) {
+        log.debug("레시피 없음: id={}", e.getRecipeId());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(RECIPE_NOT_FOUND_BODY);
+    }
+
+    /**
+     * 동시 수정 충돌 (다른 사용자가 먼저 수정해 version이 바뀐 경우) → 409
+     * 컨트롤러의 처리기가 GlobalExceptionHandler보다 먼저 적용되므로, 아래 RuntimeException 처리기에 걸리지 않도록 여기에 둔다.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        log.warn("동시 수정 충돌: {}", e.getMessage());
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "CONCURRENT_MODIFICATION");
+        errorResponse.put("message", "다른 곳에서 먼저 수정된 레시피입니다. 새로 불러온 뒤 다시 수정해 주세요.");
+        errorResponse.put("timestamp", java.time.LocalDateTime.now().toString());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * 전역 예외 처리기 - 일반적인 런타임 오류 처리
      */
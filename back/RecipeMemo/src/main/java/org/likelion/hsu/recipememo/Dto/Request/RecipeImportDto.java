@@ -0,0 +1,28 @@
+package org.likelion.hsu.recipememo.Dto.Request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 대량 가져오기(NDJSON) 한 줄에 해당하는 레시피
+ * 내보내기 결과(RecipeResponseDto)를 그대로 다시 넣을 수 있도록 imageUrl까지 받는다. (id, updatedAt 등은 무시)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeImportDto {
+    private String title;
+    private String category; // 한글 카테고리 이름 (예: "한식")
+    private String cookingTime;
+    private String difficulty;
+    private List<String> ingredients;
+    private String content;
+    private List<String> steps;
+    private String imageUrl; // 이미 업로드되어 있는 이미지 URL (없으면 null)
+    private String firebaseUid;
+}
@@ -20,4 +20,10 @@ public class RecipeRequestDto {
     private String content;
     private List<String> steps;
     private String firebaseUid;
+    private Long version; // 조회했을 때의 version (보내면 그 사이 다른 수정이 있었을 때 409, 생략하면 확인하지 않음)
+
+    public RecipeRequestDto(String title, String category, String cookingTime, String difficulty,
+                            List<String> ingredients, String content, List<String> steps, String firebaseUid) {
+        this(title, category, cookingTime, difficulty, ingredients, content, steps, firebaseUid, null);
+    }
 }
@@ -0,0 +1,19 @@
+package org.likelion.hsu.recipememo.Dto.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategorySummaryResponseDto {
+    private String code; // 목록 API 경로에 쓰는 이름 (예: KOREAN)
+    private String category; // 화면 표시용 이름 (예: 한식)
+    private long count; // 카테고리의 전체 레시피 수
+    private List<RecipeTitleResponseDto> recipes; // 최신 레시피 미리보기
+}
@@ -0,0 +1,17 @@
+package org.likelion.hsu.recipememo.Dto.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HomeSummaryResponseDto {
+    private long total; // 전체 레시피 수
+    private List<CategorySummaryResponseDto> categories; // Category 선언 순서 (한식, 일식, 중식, 양식)
+}
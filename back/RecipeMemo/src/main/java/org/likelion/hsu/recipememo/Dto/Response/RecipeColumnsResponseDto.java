@@ -0,0 +1,54 @@
+package org.likelion.hsu.recipememo.Dto.Response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 목록 응답의 열(column) 형식 (?format=columnar)
+ * 항목마다 "id", "title", "imageUrl" ... 키를 반복하지 않고 필드별 배열 하나씩으로 보낸다. (i번째 레시피 = 각 배열의 i번째 값)
+ * 예: {"ids":[3,2],"titles":["김치찌개","비빔밥"],"images":[...],"thumbnails":[...,null],"mediums":[...],"nextCursor":2}
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RecipeColumnsResponseDto {
+    private String category; // 카테고리 목록일 때만
+    private List<Long> ids;
+    private List<String> titles;
+    private List<String> images; // 원본 사진
+    private List<String> thumbnails; // 목록 카드용 작은 사진 (아직 생성 전이면 null → images 사용)
+    private List<String> mediums; // 중간 크기 사진 (아직 생성 전이면 null → images 사용)
+    private Long nextCursor; // 다음 페이지 커서 (카테고리/사용자 목록, 마지막 페이지면 생략)
+    private Long total; // 검색 결과 전체 수 (검색일 때만)
+    private Integer nextPage; // 다음 페이지 번호 (검색일 때만, 마지막 페이지면 생략)
+
+    public static RecipeColumnsResponseDto from(List<RecipeTitleResponseDto> recipes) {
+        List<Long> ids = new ArrayList<>(recipes.size());
+        List<String> titles = new ArrayList<>(recipes.size());
+        List<String> images = new ArrayList<>(recipes.size());
+        List<String> thumbnails = new ArrayList<>(recipes.size());
+        List<String> mediums = new ArrayList<>(recipes.size());
+        for (RecipeTitleResponseDto recipe : recipes) {
+            ids.add(recipe.getId());
+            titles.add(recipe.getTitle());
+            images.add(recipe.getImageUrl());
+            thumbnails.add(recipe.getThumbnailUrl());
+            mediums.add(recipe.getMediumUrl());
+        }
+        RecipeColumnsResponseDto columns = new RecipeColumnsResponseDto();
+        columns.setIds(ids);
+        columns.setTitles(titles);
+        columns.setImages(images);
+        columns.setThumbnails(thumbnails);
+        columns.setMediums(mediums);
+        return columns;
+    }
+}
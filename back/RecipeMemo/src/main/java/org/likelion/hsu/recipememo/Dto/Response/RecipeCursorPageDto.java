@@ -0,0 +1,17 @@
+package org.likelion.hsu.recipememo.Dto.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeCursorPageDto {
+    private List<RecipeTitleResponseDto> recipes;
+    private Long nextCursor; // 다음 페이지 요청 시 after 값으로 넘길 커서 (마지막 페이지면 null)
+}
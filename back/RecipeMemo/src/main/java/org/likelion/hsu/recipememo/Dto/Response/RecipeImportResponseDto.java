@@ -0,0 +1,18 @@
+package org.likelion.hsu.recipememo.Dto.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeImportResponseDto {
+    private long imported; // 저장된 레시피 수
+    private long failed; // 형식 오류 등으로 건너뛴 줄 수
+    private List<String> errors; // 건너뛴 줄 번호와 사유 (앞쪽 일부만)
+}
@@ -14,4 +14,5 @@ import java.util.List;
 public class RecipeListResponseDto {
     private String category;
     private List<RecipeTitleResponseDto> recipes;
+    private Long nextCursor; // 다음 페이지 요청 시 after 값으로 넘길 커서 (마지막 페이지면 null)
 }
@@ -6,6 +6,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.likelion.hsu.recipememo.Entity.Recipe;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -23,6 +25,8 @@ public class RecipeResponseDto {
     private List<String> steps;
     private String imageUrl;
     private String firebaseUid;
+    private Instant updatedAt; // 마지막 변경 시각
+    private Long version; // 수정/PATCH 요청에 그대로 돌려보내면 그 사이 다른 수정이 있었는지 확인함
 
     public static RecipeResponseDto from(Recipe recipe) {
         return new RecipeResponseDto(
@@ -31,11 +35,18 @@ public class RecipeResponseDto {
                 recipe.getCategory().getDisplayName(),
                 recipe.getCookingTime(),
                 recipe.getDifficulty(),
-                recipe.getIngredients(),
+                copyOf(recipe.getIngredients()),
                 recipe.getContent(),
-                recipe.getSteps(),
+                copyOf(recipe.getSteps()),
                 recipe.getImageUrl(),
-                recipe.getFirebaseUid());
+                recipe.getFirebaseUid(),
+                recipe.getUpdatedAt(),
+                recipe.getVersion());
+    }
+
+    // Hibernate 컬렉션(PersistentBag)을 그대로 넘기지 않고 일반 리스트로 복사해 엔티티/세션과 분리
+    private static List<String> copyOf(List<String> values) {
+        return values == null ? null : new ArrayList<>(values);
     }
 }
 // public static RecipeResponseDto from(Recipe recipe)
@@ -13,6 +13,8 @@ import java.util.List;
 @AllArgsConstructor
 public class RecipeSearchResponseDto {
     private List<RecipeTitleResponseDto> results;
+    private long total; // 검색어와 일치하는 전체 레시피 수
+    private Integer nextPage; // 다음 페이지 번호 (마지막 페이지면 null)
 }
 //검색 API의 응답 결과를 담는 리스트
 //RecipeTitleDto → 레시피의 id와 title만 담고 있는 간단한 DTO
@@ -21,7 +23,7 @@ public class RecipeSearchResponseDto {
 //작동 흐름 정리 (Controller → Service → Repository)
 //1. 사용자가 /api/recipes/search?q=김치 요청
 //2. Controller에서 Service 호출
-//3. Service는 Repository에서 title LIKE '%김치%'인 레시피 리스트 받아옴
-//4. 각 Recipe 객체를 RecipeTitleDto로 바꿈
+//3. Service는 검색 색인(RecipeSearchIndex)에서 '김치'의 2-gram을 모두 포함하는 레시피 id를 순위순으로 받아옴
+//4. 그 id들의 제목/이미지를 RecipeTitleDto로 한 번에 조회
 //5. 이 DTO들을 리스트로 묶어서 RecipeSearchResponse에 넣음
 //6. JSON으로 응답
\ No newline at end of file
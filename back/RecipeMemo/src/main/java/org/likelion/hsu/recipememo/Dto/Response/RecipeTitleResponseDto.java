@@ -1,11 +1,14 @@
 package org.likelion.hsu.recipememo.Dto.Response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.likelion.hsu.recipememo.Entity.Recipe;
 
+import java.time.Instant;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -13,13 +16,21 @@ import org.likelion.hsu.recipememo.Entity.Recipe;
 public class RecipeTitleResponseDto {
     private Long id;
     private String title;
-    private String imageUrl;
+    private String imageUrl; // 원본 사진
+    private String thumbnailUrl; // 목록 카드용 작은 사진 (아직 생성 전이면 null → imageUrl 사용)
+    private String mediumUrl; // 중간 크기 사진 (아직 생성 전이면 null → imageUrl 사용)
+
+    @JsonIgnore
+    private Instant updatedAt; // 목록 ETag 계산용 (응답 JSON에는 포함하지 않음)
 
     public static RecipeTitleResponseDto from(Recipe recipe) {
         return new RecipeTitleResponseDto(
                 recipe.getId(),
                 recipe.getTitle(),
-                recipe.getImageUrl()
+                recipe.getImageUrl(),
+                recipe.getThumbnailUrl(),
+                recipe.getMediumUrl(),
+                recipe.getUpdatedAt()
         );
     }
 }
@@ -0,0 +1,23 @@
+package org.likelion.hsu.recipememo.Entity;
+
+import javax.persistence.*;
+import lombok.*;
+import org.likelion.hsu.recipememo.Enum.Category;
+
+/**
+ * 카테고리별 레시피 개수 (홈 화면 요약용)
+ * 레시피 생성/삭제/카테고리 변경 시 같은 트랜잭션에서 증감하므로 COUNT(*) 없이 바로 읽을 수 있다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryStat {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private Category category;
+
+    @Column(nullable = false)
+    private long recipeCount;
+}
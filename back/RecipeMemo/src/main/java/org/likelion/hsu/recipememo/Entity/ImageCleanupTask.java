@@ -0,0 +1,57 @@
+package org.likelion.hsu.recipememo.Entity;
+
+import javax.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 이미지 파일 정리 대기열 (transactional outbox)
+ * 레시피 삭제/이미지 교체와 같은 트랜잭션에서 INSERT 되므로, 커밋된 변경에 대해서만 파일 삭제가 예약된다.
+ * 실제 삭제는 ImageCleanupOutbox가 요청 스레드 밖에서 배치로 처리한다.
+ */
+@Entity
+@Table(name = "image_cleanup_outbox", indexes = {
+        @Index(name = "idx_image_cleanup_next_attempt", columnList = "next_attempt_at") // 처리할 차례가 된 작업만 순서대로 꺼내기 위한 인덱스
+})
+@Getter
+@NoArgsConstructor
+public class ImageCleanupTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String imageUrl; // 지울 원본 이미지 URL (파생 이미지는 저장소가 함께 삭제)
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt; // 이 시각 이후에 처리 (실패하면 점점 뒤로 미룸)
+
+    private int attempts; // 실패한 횟수
+
+    @Column(length = 500)
+    private String lastError; // 마지막 실패 사유 (운영 중 확인용)
+
+    public ImageCleanupTask(String imageUrl, Instant now) {
+        this.imageUrl = imageUrl;
+        this.createdAt = now;
+        this.nextAttemptAt = now;
+    }
+
+    // 실패가 아닌 이유(방금 재사용된 파일)로 until 까지 미룸
+    public void postpone(Instant until) {
+        this.nextAttemptAt = until;
+    }
+
+    // 실패 기록 후 다음 시도 시각을 backoff 만큼 미룸
+    public void retryLater(Instant now, Duration backoff, String error) {
+        this.attempts++;
+        this.nextAttemptAt = now.plus(backoff);
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
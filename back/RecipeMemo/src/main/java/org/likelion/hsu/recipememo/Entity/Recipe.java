@@ -2,20 +2,39 @@ package org.likelion.hsu.recipememo.Entity;
 
 import javax.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.likelion.hsu.recipememo.Enum.Category;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_recipe_category_id", columnList = "category, id"), // 카테고리별 키셋 페이지네이션용 복합 인덱스
+        @Index(name = "idx_recipe_firebase_uid_id", columnList = "firebase_uid, id"), // 사용자별(마이페이지) 키셋 페이지네이션/개수 조회용
+        @Index(name = "idx_recipe_image_url", columnList = "image_url") // 이미지 파일 정리 시 참조 여부 확인용
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate // 바뀐 컬럼만 UPDATE - 썸네일 작업이 bulk update로 기록한 thumbnailUrl/mediumUrl을 그보다 먼저 읽은 수정 요청이 null로 덮어쓰지 않도록
 public class Recipe {
+
+    // recipe_seq 한 번 호출로 미리 받아 두는 ID 개수 (시퀀스의 increment 값과 같아야 함)
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_seq")
+    @SequenceGenerator(name = "recipe_seq", sequenceName = "recipe_seq", allocationSize = Recipe.ID_ALLOCATION_SIZE)
+    private Long id; // 시퀀스에서 50개씩 미리 받아 쓰므로 INSERT를 JDBC 배치로 묶을 수 있음 (IDENTITY는 배치 불가)
+
+    @Version
+    private Long version; // 낙관적 락 - 수정할 때마다 1씩 증가, 그 사이 다른 수정이 커밋됐으면 충돌(409)
 
     private String title; // 요리 제목
 
@@ -26,15 +45,68 @@ public class Recipe {
     private String difficulty; // 난이도
 
     @ElementCollection
+    @OrderColumn(name = "ingredients_order")
     private List<String> ingredients; // 재료 목록 (String에서 List<String>으로 변경)
 
     private String content; // 요리 소개
 
     @ElementCollection
+    @OrderColumn(name = "steps_order")
     private List<String> steps; // 요리과정 단계별 설명
+    // @OrderColumn: 순서 컬럼이 있는 리스트는 위치별로 행을 구분하므로, 바뀐 위치의 행만 UPDATE/INSERT/DELETE 할 수 있음
+    // (순서 컬럼이 없으면 하나만 바뀌어도 전체 행을 지우고 다시 넣음)
 
     private String imageUrl; // 요리 완성 사진 URL(서버에 저장된 경로)
 
+    private String thumbnailUrl; // 목록 카드용 작은 사진 URL (백그라운드에서 생성되기 전에는 null)
+
+    private String mediumUrl; // 중간 크기 사진 URL (백그라운드에서 생성되기 전에는 null)
+
     @Column(nullable = false)
     private String firebaseUid; // Firebase 사용자 UID
+
+    private Instant updatedAt; // 마지막 변경 시각 (ETag/Last-Modified 조건부 요청에 사용)
+
+    @PrePersist
+    @PreUpdate
+    public void touch() {
+        this.updatedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS); // HTTP 날짜/ETag 비교가 DB 정밀도에 흔들리지 않도록 밀리초까지만
+    }
+    // @PrePersist/@PreUpdate: 저장/수정 SQL이 나가기 직전에 JPA가 자동으로 호출 → updatedAt 갱신
+
+    // 내용이 실제로 바뀌었으면 true
+    public boolean changeIngredients(List<String> values) {
+        if (Objects.equals(this.ingredients, values)) {
+            return false;
+        }
+        this.ingredients = mergeInto(this.ingredients, values);
+        return true;
+    }
+
+    public boolean changeSteps(List<String> values) {
+        if (Objects.equals(this.steps, values)) {
+            return false;
+        }
+        this.steps = mergeInto(this.steps, values);
+        return true;
+    }
+
+    // 컬렉션을 새 리스트로 바꿔 끼우면 Hibernate가 전체 행을 다시 쓰므로, 기존 리스트를 위치별로 고쳐 바뀐 행만 쓰게 한다.
+    private static List<String> mergeInto(List<String> current, List<String> values) {
+        if (current == null) {
+            return values == null ? null : new ArrayList<>(values);
+        }
+        List<String> target = values == null ? List.of() : values;
+        int common = Math.min(current.size(), target.size());
+        for (int i = 0; i < common; i++) {
+            if (!Objects.equals(current.get(i), target.get(i))) {
+                current.set(i, target.get(i));
+            }
+        }
+        while (current.size() > target.size()) {
+            current.remove(current.size() - 1);
+        }
+        current.addAll(target.subList(common, target.size()));
+        return current;
+    }
 }
@@ -1,5 +1,10 @@
 package org.likelion.hsu.recipememo.Enum;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 public enum Category {
     KOREAN("한식"), JAPANESE("일식"), CHINESE("중식"), WESTERN("양식");
 //enum 타입으로 고정된 4개의 카테고리를 정의.
@@ -17,15 +22,45 @@ public enum Category {
     }
     //각 enum 값에서 한글 이름을 꺼낼 수 있는 getter.
 
+    // enum 이름(KOREAN, korean)과 한글 이름(한식)을 모두 받는 조회용 맵 - 경로 변수/요청 파라미터용 (클래스 로딩 시 한 번만 만듦)
+    private static final Map<String, Category> LOOKUP;
+
+    // 한글 이름(한식)만 받는 맵 - 요청 본문용 (본문의 카테고리는 예전부터 한글 이름만 허용)
+    private static final Map<String, Category> BY_DISPLAY_NAME;
+
+    static {
+        Map<String, Category> lookup = new HashMap<>();
+        Map<String, Category> byDisplayName = new HashMap<>();
+        for (Category category : values()) {
+            lookup.put(category.name(), category);
+            lookup.put(category.name().toLowerCase(Locale.ROOT), category);
+            lookup.put(category.displayName, category);
+            byDisplayName.put(category.displayName, category);
+        }
+        LOOKUP = Collections.unmodifiableMap(lookup);
+        BY_DISPLAY_NAME = Collections.unmodifiableMap(byDisplayName);
+    }
+
+    /**
+     * enum 이름 또는 한글 이름으로 카테고리 찾기 (없으면 예외 대신 null)
+     * 자주 쓰이는 표기(KOREAN, korean, 한식)는 맵 조회 한 번으로 끝나고, Korean 같은 표기만 대문자로 바꿔 다시 찾는다.
+     */
+    public static Category lookup(String value) {
+        if (value == null) {
+            return null;
+        }
+        Category category = LOOKUP.get(value);
+        return category != null ? category : LOOKUP.get(value.toUpperCase(Locale.ROOT));
+    }
+
     public static Category fromDisplayName(String displayName) {
-        for (Category category : Category.values()) {
-            if (category.displayName.equals(displayName)) {
-                return category;
-            }
+        Category category = displayName == null ? null : BY_DISPLAY_NAME.get(displayName);
+        if (category == null) {
+            throw new InvalidCategoryException(displayName);
         }
-        throw new IllegalArgumentException("Invalid category name: " + displayName);
+        return category;
     }
     //입력된 문자열(예: "한식")이 어떤 enum 값과 매칭되는지 확인해서 Category 타입으로 변환.
     //예: "한식" → Category.KOREAN
-    //만약 "떡볶이" 같이 정의되지 않은 값이 들어오면 예외 발생.
+    //만약 "떡볶이"나 "KOREAN"처럼 한글 이름이 아닌 값이 들어오면 예외 발생. (요청 본문의 카테고리 검증용, 400 응답)
 }
@@ -0,0 +1,19 @@
+package org.likelion.hsu.recipememo.Enum;
+
+/**
+ * 요청 본문의 카테고리가 한글 이름(한식, 일식, 중식, 양식)이 아닐 때 (RecipeController가 400으로 응답)
+ * 가져오기(import)처럼 IllegalArgumentException을 잡아 건너뛰는 곳에서도 그대로 처리되도록 하위 클래스로 둔다.
+ */
+public class InvalidCategoryException extends IllegalArgumentException {
+
+    private final String category;
+
+    public InvalidCategoryException(String category) {
+        super("Invalid category name: " + category);
+        this.category = category;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+}
@@ -0,0 +1,27 @@
+package org.likelion.hsu.recipememo.Repository;
+
+import org.likelion.hsu.recipememo.Entity.CategoryStat;
+import org.likelion.hsu.recipememo.Enum.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+
+public interface CategoryStatRepository extends JpaRepository<CategoryStat, Category> {
+
+    @Query("select s.category, s.recipeCount from CategoryStat s")
+    List<Object[]> findAllCounts(); //엔티티 대신 값만 읽으므로 같은 트랜잭션에서 addCount로 바뀐 값도 그대로 보입니다.
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from CategoryStat s where s.category = :category")
+    Optional<CategoryStat> findForUpdate(@Param("category") Category category); //통계 행 하나를 잠급니다. 재계산이 진행 중인 증감(addCount)의 커밋을 기다린 뒤 세고, 그 사이 새 증감은 재계산이 끝날 때까지 기다리게 합니다.
+
+    @Modifying
+    @Query("update CategoryStat s set s.recipeCount = s.recipeCount + :delta where s.category = :category")
+    int addCount(@Param("category") Category category, @Param("delta") long delta); //읽지 않고 DB에서 바로 더하므로 동시에 여러 요청이 와도 개수가 어긋나지 않습니다. (행 잠금은 커밋까지 유지)
+}
@@ -0,0 +1,22 @@
+package org.likelion.hsu.recipememo.Repository;
+
+import org.likelion.hsu.recipememo.Entity.ImageCleanupTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+
+public interface ImageCleanupTaskRepository extends JpaRepository<ImageCleanupTask, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select t from ImageCleanupTask t where t.nextAttemptAt <= :now order by t.nextAttemptAt, t.id")
+    List<ImageCleanupTask> findDue(@Param("now") Instant now, Pageable pageable); //처리할 차례가 된 작업을 잠그며 가져옵니다. (-2 = SKIP LOCKED: 서버가 여러 대여도 다른 서버가 잡은 행은 건너뜀, 지원하지 않는 DB에서는 그냥 FOR UPDATE)
+}
@@ -1,21 +1,121 @@
 package org.likelion.hsu.recipememo.Repository;
 
+import org.likelion.hsu.recipememo.Dto.Response.RecipeTitleResponseDto;
 import org.likelion.hsu.recipememo.Entity.Recipe;
 import org.likelion.hsu.recipememo.Enum.Category;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface RecipeRepository extends JpaRepository<Recipe, Long> {
-    List<Recipe> findByCategory(Category category); //해당 카테고리에 속한 모든 레시피들을 조회합니다.
-    Optional<Recipe> findByIdAndCategory(Long id, Category category); //특정 ID와 특정 카테고리가 모두 일치하는 레시피 한 개를 찾습니다.
-    List<Recipe> findByTitleContainingIgnoreCase(String title); //제목에 입력한 문자열이 포함되어 있는 레시피들을 (대소문자 무시하고) 검색합니다.
-    List<Recipe> findByFirebaseUid(String firebaseUid); //특정 사용자(Firebase UID)가 등록한 모든 레시피를 조회합니다.
+    boolean existsByImageUrl(String imageUrl); //해당 이미지 URL을 쓰는 레시피가 하나라도 있는지 확인합니다. (같은 이미지는 여러 레시피가 공유할 수 있음)
+
+    // ===== 상세 조회용 fetch join 쿼리 =====
+    // ingredients, steps 두 컬렉션을 한 쿼리에서 함께 fetch join 하면 MultipleBagFetchException(카테시안 곱)이 발생하므로
+    // 재료를 함께 읽는 쿼리 1번 + 같은 영속성 컨텍스트에서 과정을 채우는 쿼리 1번, 총 2번의 왕복으로 상세 정보를 만든다.
+    // (DISTINCT는 붙이지 않음 - SQL DISTINCT가 중복된 재료/과정 문자열을 합쳐버리기 때문. 같은 엔티티 인스턴스가 반복될 뿐이라 단건 조회에 문제 없음)
+
+    @Query("select r from Recipe r left join fetch r.ingredients where r.id = :id")
+    Optional<Recipe> findWithIngredientsById(@Param("id") Long id); //레시피 한 개를 재료 목록과 함께 조회합니다.
+
+    @Query("select r from Recipe r left join fetch r.ingredients where r.id = :id and r.category = :category")
+    Optional<Recipe> findWithIngredientsByIdAndCategory(@Param("id") Long id, @Param("category") Category category); //특정 ID와 특정 카테고리가 모두 일치하는 레시피 한 개를 재료 목록과 함께 찾습니다.
+
+    @Query("select r from Recipe r left join fetch r.steps where r = :recipe")
+    List<Recipe> fetchSteps(@Param("recipe") Recipe recipe); //이미 조회한 레시피의 steps 컬렉션을 한 번의 쿼리로 채웁니다. (반환값은 같은 엔티티)
+
+    // ===== 대량 내보내기용 (id 순으로 청크 단위 조회) =====
+
+    @Query("select r.id from Recipe r where r.id > :after order by r.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Pageable pageable); //after보다 큰 id를 오름차순으로 한 청크만큼 조회합니다.
+
+    @Query("select r from Recipe r left join fetch r.ingredients where r.id in :ids order by r.id")
+    List<Recipe> findWithIngredientsByIdIn(@Param("ids") Collection<Long> ids); //여러 레시피를 재료 목록과 함께 조회합니다. (재료 수만큼 같은 엔티티가 반복됨)
+
+    @Query("select r from Recipe r left join fetch r.steps where r in :recipes")
+    List<Recipe> fetchStepsIn(@Param("recipes") Collection<Recipe> recipes); //이미 조회한 레시피들의 steps 컬렉션을 한 번의 쿼리로 채웁니다.
+
+    // ===== 목록 조회용 프로젝션 쿼리 =====
+    // 목록 화면에는 id, title, 이미지 URL들만 필요하므로 Recipe 엔티티를 만들지 않고 DTO로 바로 조회합니다.
+    // (엔티티가 영속성 컨텍스트에 올라가지 않으므로 ingredients/steps 컬렉션이 지연 로딩될 일도 없음)
+
+    @Query("select new org.likelion.hsu.recipememo.Dto.Response.RecipeTitleResponseDto(r.id, r.title, r.imageUrl, r.thumbnailUrl, r.mediumUrl, r.updatedAt) " +
+            "from Recipe r where r.category = :category order by r.id desc")
+    List<RecipeTitleResponseDto> findTitlesByCategory(@Param("category") Category category, Pageable pageable); //카테고리의 첫 페이지를 최신순(id 내림차순)으로 limit 만큼만 조회합니다.
+
+    @Query("select new org.likelion.hsu.recipememo.Dto.Response.RecipeTitleResponseDto(r.id, r.title, r.imageUrl, r.thumbnailUrl, r.mediumUrl, r.updatedAt) " +
+            "from Recipe r where r.category = :category and r.id < :after order by r.id desc")
+    List<RecipeTitleResponseDto> findTitlesByCategoryAfter(@Param("category") Category category,
+                                                          @Param("after") Long after,
+                                                          Pageable pageable); //커서(after) 이후의 다음 페이지를 조회합니다. (category, id) 인덱스를 그대로 탐색합니다.
+
+    @Query("select new org.likelion.hsu.recipememo.Dto.Response.RecipeTitleResponseDto(r.id, r.title, r.imageUrl, r.thumbnailUrl, r.mediumUrl, r.updatedAt) " +
+            "from Recipe r where lower(r.title) like lower(concat('%', :title, '%')) order by r.id desc")
+    List<RecipeTitleResponseDto> findTitlesByTitleContaining(@Param("title") String title, Pageable pageable); //제목에 입력한 문자열이 포함되어 있는 레시피들을 (대소문자 무시하고) 검색합니다. 검색 색인이 준비되기 전에만 사용합니다.
+
+    @Query("select new org.likelion.hsu.recipememo.Dto.Response.RecipeTitleResponseDto(r.id, r.title, r.imageUrl, r.thumbnailUrl, r.mediumUrl, r.updatedAt) " +
+            "from Recipe r where r.id in :ids")
+    List<RecipeTitleResponseDto> findTitlesByIdIn(@Param("ids") Collection<Long> ids); //검색 색인이 찾은 id 목록의 제목/이미지를 한 번에 조회합니다. (순서는 보장하지 않음)
+
+    @Query("select new org.likelion.hsu.recipememo.Dto.Response.RecipeTitleResponseDto(r.id, r.title, r.imageUrl, r.thumbnailUrl, r.mediumUrl, r.updatedAt) " +
+            "from Recipe r where r.firebaseUid = :firebaseUid order by r.id desc")
+    List<RecipeTitleResponseDto> findTitlesByFirebaseUid(@Param("firebaseUid") String firebaseUid, Pageable pageable); //특정 사용자(Firebase UID)가 등록한 레시피의 첫 페이지를 최신순으로 limit 만큼만 조회합니다.
+
+    @Query("select new org.likelion.hsu.recipememo.Dto.Response.RecipeTitleResponseDto(r.id, r.title, r.imageUrl, r.thumbnailUrl, r.mediumUrl, r.updatedAt) " +
+            "from Recipe r where r.firebaseUid = :firebaseUid and r.id < :after order by r.id desc")
+    List<RecipeTitleResponseDto> findTitlesByFirebaseUidAfter(@Param("firebaseUid") String firebaseUid,
+                                                             @Param("after") Long after,
+                                                             Pageable pageable); //커서(after) 이후의 다음 페이지를 조회합니다. (firebase_uid, id) 인덱스를 그대로 탐색합니다.
+
+    @Query("select r.category, count(r) from Recipe r group by r.category")
+    List<Object[]> countByCategory(); //카테고리별 레시피 개수를 셉니다. 요약 통계(CategoryStat)를 처음 만들거나 다시 맞출 때만 사용합니다.
+
+    long countByFirebaseUid(String firebaseUid); //특정 사용자의 레시피 개수만 셉니다. (firebase_uid, id) 인덱스만 읽으면 됨
+
+    // ===== 이미지 파생본 / 파일 정리 =====
+
+    @Query("select distinct r.imageUrl from Recipe r where r.imageUrl in :imageUrls")
+    List<String> findImageUrlsIn(@Param("imageUrls") Collection<String> imageUrls); //주어진 이미지 URL 중 아직 레시피가 참조하는 것만 돌려줍니다. 정리 작업이 여러 건의 참조 여부를 쿼리 1번으로 확인할 때 사용합니다.
+
+    @Transactional
+    @Modifying
+    @Query("update Recipe r set r.thumbnailUrl = :thumbnailUrl, r.mediumUrl = :mediumUrl, r.updatedAt = :updatedAt " +
+            "where r.id = :id and r.imageUrl = :imageUrl")
+    int updateImageVariants(@Param("id") Long id,
+                            @Param("imageUrl") String imageUrl,
+                            @Param("thumbnailUrl") String thumbnailUrl,
+                            @Param("mediumUrl") String mediumUrl,
+                            @Param("updatedAt") Instant updatedAt); //썸네일/중간 크기 URL을 기록합니다. (bulk update라 @PreUpdate가 불리지 않으므로 updatedAt도 직접 갱신) 그 사이 이미지가 바뀌었으면 아무 것도 하지 않습니다.
+
+    @Query("select r.id, r.imageUrl, r.category from Recipe r " +
+            "where r.id > :after and r.imageUrl is not null and r.thumbnailUrl is null order by r.id")
+    List<Object[]> findMissingImageVariants(@Param("after") Long after, Pageable pageable); //사진은 있는데 썸네일이 아직 없는 레시피를 id 순으로 가져옵니다. (대기열이 가득 차 건너뛴 썸네일 작업 복구용)
+
+    // ===== 검색 색인 재구성용 스트리밍 쿼리 (트랜잭션 안에서 사용 후 반드시 close) =====
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select r.id, r.title, r.content from Recipe r order by r.id")
+    Stream<Object[]> streamSearchFields(); //모든 레시피의 id, 제목, 내용을 id 순으로 조금씩 읽어옵니다.
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select r.id, i from Recipe r join r.ingredients i order by r.id, index(i)")
+    Stream<Object[]> streamIngredients(); //모든 (레시피 id, 재료) 쌍을 id 순으로 조금씩 읽어옵니다.
 }
-//findBy: JPA에서 쿼리를 자동 생성하겠다는 선언
-//Title: Recipe 엔티티 안의 title필드를 기준으로
-//Containing: LIKE %값% 처럼 포함 여부로 필터링
-//IgnoreCase: 대소문자 구분 없이 검색
-//(String title): 메서드 호출 시 외부에서 전달받는 검색어
-//title은 단순히 전달받는 변수 이름일 뿐이고, 실제 쿼리 생성에 영향을 주는 건 메서드 이름(ContainingIgnoreCase)쪽임
\ No newline at end of file
+//select new ...RecipeTitleResponseDto(...): JPQL 생성자 표현식. SQL에는 id, title, 이미지 URL 컬럼만 SELECT 됨
+//left join fetch: 연관 컬렉션을 지연 로딩하지 않고 같은 SQL에서 JOIN으로 함께 가져옴 (N+1 방지)
+//Pageable: LIMIT n 으로 변환되어 필요한 만큼만 읽음 (키셋 페이지네이션)
+//Stream + HINT_FETCH_SIZE: 결과 전체를 리스트로 만들지 않고 JDBC 커서로 1000건씩 가져옴
+//lower(r.title) like lower(concat('%', :title, '%')): 기존 findByTitleContainingIgnoreCase와 같은 조건
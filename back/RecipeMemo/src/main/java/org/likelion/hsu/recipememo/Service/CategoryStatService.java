@@ -0,0 +1,134 @@
+package org.likelion.hsu.recipememo.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.likelion.hsu.recipememo.Config.CacheConfig;
+import org.likelion.hsu.recipememo.Dto.Response.CategorySummaryResponseDto;
+import org.likelion.hsu.recipememo.Dto.Response.HomeSummaryResponseDto;
+import org.likelion.hsu.recipememo.Entity.CategoryStat;
+import org.likelion.hsu.recipememo.Enum.Category;
+import org.likelion.hsu.recipememo.Repository.CategoryStatRepository;
+import org.likelion.hsu.recipememo.Repository.RecipeRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리별 레시피 개수 관리 + 홈 화면 요약
+ *
+ * 개수는 레시피를 생성/수정/삭제하는 트랜잭션 안에서 증감하므로 롤백되면 함께 되돌아간다.
+ * 카테고리별 행은 Flyway 마이그레이션(V3__Seed_category_stat)이 서버 기동 전에 만들어 두므로 증감이 빠지지 않는다.
+ * 요약 조회는 개수 1번 + 카테고리마다 최신 N건 1번씩 (각각 (category, id) 인덱스 역순 탐색) 이다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryStatService {
+
+    private final CategoryStatRepository categoryStatRepository;
+    private final RecipeRepository recipeRepository;
+
+    /**
+     * 서버 시작 시 통계 행이 없는 카테고리가 있으면 (마이그레이션 없이 카테고리를 추가한 경우) 전체를 다시 센다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        if (categoryStatRepository.count() < Category.values().length) {
+            recount();
+        }
+    }
+
+    /**
+     * recipe 테이블을 직접 세어 통계를 다시 맞춘다. (JDBC로 데이터를 직접 넣은 경우 등)
+     *
+     * 먼저 통계 행을 모두 잠근 뒤 센다. (READ COMMITTED: 잠금을 얻은 뒤의 COUNT는 그 사이 커밋된 레시피까지 봄)
+     * - 이미 증감한 트랜잭션: 행 잠금을 쥐고 있으므로 커밋될 때까지 기다렸다가 그 레시피까지 포함해 셈
+     * - 아직 증감하지 않은 트랜잭션: 레시피가 커밋 전이라 세지 않고, 증감은 재계산이 커밋된 뒤에 더해짐
+     * 따라서 재계산 결과를 증감이 덮어쓰거나, 재계산이 증감을 덮어쓰지 않는다.
+     */
+    @Transactional
+    public void recount() {
+        for (Category category : Category.values()) { // 증감과 같은 순서(enum 순서)로 잠가 교착 상태를 피함
+            categoryStatRepository.findForUpdate(category);
+        }
+        Map<Category, Long> counts = new EnumMap<>(Category.class);
+        for (Object[] row : recipeRepository.countByCategory()) {
+            counts.put((Category) row[0], (Long) row[1]);
+        }
+        List<CategoryStat> stats = new ArrayList<>();
+        for (Category category : Category.values()) {
+            stats.add(new CategoryStat(category, counts.getOrDefault(category, 0L)));
+        }
+        categoryStatRepository.saveAll(stats); // id(카테고리)가 있으므로 merge → 없으면 INSERT, 있으면 UPDATE
+        log.info("카테고리별 레시피 개수 재계산: {}", counts);
+    }
+
+    // 아래 메서드들은 호출한 쪽 트랜잭션에 참여한다.
+
+    public void recordCreated(Category category) {
+        addCount(category, 1);
+    }
+
+    public void recordDeleted(Category category) {
+        addCount(category, -1);
+    }
+
+    public void recordMoved(Category from, Category to) {
+        if (from == to) {
+            return;
+        }
+        // 행 잠금을 항상 같은 순서(enum 순서, recordImported의 EnumMap과 같음)로 잡아 반대 방향으로 동시에 옮기는 두 요청이 교착 상태에 빠지지 않도록
+        if (from.ordinal() < to.ordinal()) {
+            addCount(from, -1);
+            addCount(to, 1);
+        } else {
+            addCount(to, 1);
+            addCount(from, -1);
+        }
+    }
+
+    public void recordImported(Map<Category, Long> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        new EnumMap<>(counts).forEach(this::addCount); // recordMoved와 같은 순서로 잠금
+    }
+
+    // 통계 행이 없으면 (시드 마이그레이션이 빠진 카테고리) 증감이 사라지므로 알 수 있게 남김 - 다음 기동 시 initialize()가 다시 셈
+    private void addCount(Category category, long delta) {
+        if (categoryStatRepository.addCount(category, delta) == 0) {
+            log.warn("카테고리 통계 행이 없어 개수를 반영하지 못함: {} ({})", category, delta);
+        }
+    }
+
+    /**
+     * 홈 화면 요약: 카테고리별 개수와 최신 레시피 latest건
+     */
+    @Cacheable(cacheNames = CacheConfig.HOME_SUMMARY, key = "#latest", sync = true)
+    @Transactional(readOnly = true)
+    public HomeSummaryResponseDto getSummary(int latest) {
+        Map<Category, Long> counts = new EnumMap<>(Category.class);
+        for (Object[] row : categoryStatRepository.findAllCounts()) {
+            counts.put((Category) row[0], (Long) row[1]);
+        }
+
+        List<CategorySummaryResponseDto> categories = new ArrayList<>();
+        long total = 0;
+        for (Category category : Category.values()) {
+            long count = counts.getOrDefault(category, 0L);
+            total += count;
+            categories.add(new CategorySummaryResponseDto(category.name(), category.getDisplayName(), count,
+                    count == 0 || latest == 0 ? List.of() : recipeRepository.findTitlesByCategory(category, PageRequest.of(0, latest))));
+        }
+        return new HomeSummaryResponseDto(total, categories);
+    }
+}
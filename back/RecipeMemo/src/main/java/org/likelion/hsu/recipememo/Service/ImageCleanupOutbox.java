@@ -0,0 +1,161 @@
+package org.likelion.hsu.recipememo.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.likelion.hsu.recipememo.Entity.ImageCleanupTask;
+import org.likelion.hsu.recipememo.Repository.ImageCleanupTaskRepository;
+import org.likelion.hsu.recipememo.Repository.RecipeRepository;
+import org.likelion.hsu.recipememo.Storage.ImageStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 이미지 파일 정리 outbox
+ *
+ * enqueue: 레시피 삭제/이미지 교체 트랜잭션 안에서 정리 작업 행만 INSERT (요청 처리 시간에 파일 삭제가 포함되지 않음)
+ * drain: 백그라운드에서 차례가 된 작업을 batch-size 건씩 잠그고, 참조 여부를 쿼리 1번으로 확인한 뒤 파일을 지운다.
+ *
+ * 참조 확인만으로는 같은 내용의 이미지가 다시 업로드되어(store()가 기존 파일을 재사용) 레시피가 아직 커밋되기 전인 경우를 막지 못한다.
+ * 그래서 지우기 직전에 파일이 마지막으로 저장된 시각을 확인하고, grace-period 안에 저장/재사용된 파일은 그 시각 + grace-period 까지 미룬다.
+ * (업로드부터 커밋까지 grace-period 보다 오래 걸리지 않는다는 가정, 다시 차례가 되면 참조 여부부터 다시 확인)
+ *
+ * 파일 삭제는 이미 없는 파일이면 아무 것도 하지 않으므로 같은 URL이 여러 번 들어 있거나 다시 처리돼도 안전하다.
+ * 삭제에 실패하면 지수적으로 늦춰 다시 시도하고, max-attempts 번 실패하면 작업을 버린다. (남은 파일은 OrphanImageReconciler가 다시 찾음)
+ */
+@Component
+@Slf4j
+public class ImageCleanupOutbox {
+
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final ImageCleanupTaskRepository taskRepository;
+    private final RecipeRepository recipeRepository;
+    private final ImageStorage imageStorage;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration gracePeriod;
+
+    public ImageCleanupOutbox(ImageCleanupTaskRepository taskRepository,
+                              RecipeRepository recipeRepository,
+                              ImageStorage imageStorage,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${image.cleanup.batch-size:100}") int batchSize,
+                              @Value("${image.cleanup.max-attempts:8}") int maxAttempts,
+                              @Value("${image.cleanup.retry-backoff:10s}") Duration retryBackoff,
+                              @Value("${image.cleanup.grace-period:5m}") Duration gracePeriod) {
+        this.taskRepository = taskRepository;
+        this.recipeRepository = recipeRepository;
+        this.imageStorage = imageStorage;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.gracePeriod = gracePeriod;
+    }
+
+    /**
+     * 이미지 정리 예약 - 호출한 트랜잭션이 커밋되어야 작업이 보이고, 롤백되면 함께 사라진다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String imageUrl) {
+        if (imageUrl != null) {
+            taskRepository.save(new ImageCleanupTask(imageUrl, Instant.now()));
+        }
+    }
+
+    /**
+     * 여러 이미지 정리 예약 (고아 파일 정리용)
+     */
+    @Transactional
+    public void enqueueAll(Collection<String> imageUrls) {
+        Instant now = Instant.now();
+        List<ImageCleanupTask> tasks = new ArrayList<>(imageUrls.size());
+        for (String imageUrl : imageUrls) {
+            tasks.add(new ImageCleanupTask(imageUrl, now));
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    /**
+     * 차례가 된 작업이 없을 때까지 배치 단위로 처리 (배치마다 별도 트랜잭션 - 행 잠금을 오래 잡지 않도록)
+     *
+     * @return 처리(삭제 또는 재시도 예약)한 작업 수
+     */
+    @Scheduled(initialDelayString = "${image.cleanup.initial-delay:PT30S}", fixedDelayString = "${image.cleanup.interval:PT5S}")
+    public int drain() {
+        int total = 0;
+        int processed;
+        do {
+            Integer count = transaction.execute(status -> drainBatch());
+            processed = count != null ? count : 0;
+            total += processed;
+        } while (processed == batchSize);
+        return total;
+    }
+
+    private int drainBatch() {
+        Instant now = Instant.now();
+        List<ImageCleanupTask> tasks = taskRepository.findDue(now, PageRequest.of(0, batchSize));
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        Set<String> urls = tasks.stream()
+                .flatMap(task -> imageStorage.aliases(task.getImageUrl()).stream()) // 저장 위치가 바뀌기 전 URL로 참조하는 레시피도 확인
+                .collect(Collectors.toSet());
+        Set<String> referenced = new HashSet<>(recipeRepository.findImageUrlsIn(urls)); // 같은 이미지를 쓰는 레시피가 남아 있으면 지우지 않음
+
+        List<ImageCleanupTask> finished = new ArrayList<>(tasks.size());
+        Set<String> deleted = new HashSet<>();
+        for (ImageCleanupTask task : tasks) {
+            String imageUrl = task.getImageUrl();
+            if (deleted.contains(imageUrl) || imageStorage.aliases(imageUrl).stream().anyMatch(referenced::contains)) {
+                finished.add(task);
+                continue;
+            }
+            try {
+                Instant lastStored = imageStorage.lastStored(imageUrl); // 참조 확인 뒤에 봐야 그 사이 재사용된 파일도 걸러짐
+                if (lastStored != null && lastStored.plus(gracePeriod).isAfter(now)) {
+                    task.postpone(lastStored.plus(gracePeriod));
+                    log.debug("최근에 저장/재사용된 이미지라 정리를 미룸: {}", imageUrl);
+                    continue;
+                }
+                imageStorage.delete(imageUrl);
+                deleted.add(imageUrl);
+                finished.add(task);
+            } catch (IOException e) {
+                if (task.getAttempts() + 1 >= maxAttempts) {
+                    log.warn("이미지 삭제를 {}번 실패해 포기합니다: {} ({})", maxAttempts, imageUrl, e.getMessage());
+                    finished.add(task);
+                } else {
+                    task.retryLater(now, backoff(task.getAttempts()), e.toString());
+                    log.debug("이미지 삭제 실패, 나중에 다시 시도: {} ({})", imageUrl, e.getMessage());
+                }
+            }
+        }
+        taskRepository.deleteAllInBatch(finished); // 끝난 작업은 DELETE 한 번으로 제거
+        return tasks.size();
+    }
+
+    // retry-backoff × 2^실패횟수 (최대 1시간)
+    private Duration backoff(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts, 16));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+}
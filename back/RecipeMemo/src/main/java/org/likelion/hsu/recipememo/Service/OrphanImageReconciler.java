@@ -0,0 +1,98 @@
+package org.likelion.hsu.recipememo.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.likelion.hsu.recipememo.Repository.RecipeRepository;
+import org.likelion.hsu.recipememo.Storage.ImageStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 어떤 레시피도 참조하지 않는 이미지 파일을 주기적으로 찾아 정리 outbox에 넣는 작업
+ *
+ * outbox 도입 전에 남은 파일, 삭제를 max-attempts 번 실패해 버려진 작업, 저장 직후 서버가 죽어 남은 파일 등을 정리한다.
+ * 저장소 목록을 batch-size 건씩 읽어 참조 여부를 쿼리 1번으로 확인하므로 파일 수와 상관없이 메모리가 일정하다.
+ * grace-period보다 최근에 쓰인 파일은 아직 커밋 전인 업로드일 수 있어 건너뛴다.
+ * 실제 삭제 직전에 outbox가 참조 여부를 한 번 더 확인하므로, 그 사이 같은 이미지가 다시 업로드되어도 지워지지 않는다.
+ */
+@Component
+@Slf4j
+public class OrphanImageReconciler {
+
+    private final ImageStorage imageStorage;
+    private final RecipeRepository recipeRepository;
+    private final ImageCleanupOutbox imageCleanupOutbox;
+    private final int batchSize;
+    private final Duration gracePeriod;
+
+    public OrphanImageReconciler(ImageStorage imageStorage,
+                                 RecipeRepository recipeRepository,
+                                 ImageCleanupOutbox imageCleanupOutbox,
+                                 @Value("${image.reconcile.batch-size:500}") int batchSize,
+                                 @Value("${image.reconcile.grace-period:1h}") Duration gracePeriod) {
+        this.imageStorage = imageStorage;
+        this.recipeRepository = recipeRepository;
+        this.imageCleanupOutbox = imageCleanupOutbox;
+        this.batchSize = batchSize;
+        this.gracePeriod = gracePeriod;
+    }
+
+    /**
+     * 저장소 전체를 훑어 참조되지 않는 원본 이미지를 outbox에 넣는다.
+     *
+     * @return outbox에 넣은 이미지 수
+     */
+    @Scheduled(initialDelayString = "${image.reconcile.initial-delay:PT10M}", fixedDelayString = "${image.reconcile.interval:PT6H}")
+    public int reconcile() {
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        int enqueued = 0;
+        int scanned = 0;
+        try (Stream<String> images = imageStorage.listImages(cutoff)) {
+            Iterator<String> iterator = images.iterator();
+            List<String> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    scanned += batch.size();
+                    enqueued += enqueueUnreferenced(batch);
+                    batch.clear();
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("고아 이미지 정리 중단 ({}건 확인): {}", scanned, e.getMessage());
+        }
+        if (enqueued > 0) {
+            log.info("참조되지 않는 이미지 {}건을 정리 대기열에 추가 (전체 {}건 확인)", enqueued, scanned);
+        }
+        return enqueued;
+    }
+
+    private int enqueueUnreferenced(List<String> imageUrls) {
+        Set<String> candidates = new HashSet<>();
+        for (String imageUrl : imageUrls) {
+            candidates.addAll(imageStorage.aliases(imageUrl)); // 저장 위치가 바뀌기 전 URL로 참조하는 레시피도 확인
+        }
+        Set<String> referenced = new HashSet<>(recipeRepository.findImageUrlsIn(candidates));
+        Set<String> orphans = new HashSet<>();
+        for (String imageUrl : imageUrls) {
+            if (imageStorage.aliases(imageUrl).stream().noneMatch(referenced::contains)) {
+                orphans.add(imageUrl);
+            }
+        }
+        if (!orphans.isEmpty()) {
+            imageCleanupOutbox.enqueueAll(orphans);
+        }
+        return orphans.size();
+    }
+}
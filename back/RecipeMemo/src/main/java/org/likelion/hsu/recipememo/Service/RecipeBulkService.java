@@ -0,0 +1,197 @@
+package org.likelion.hsu.recipememo.Service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.likelion.hsu.recipememo.Dto.Request.RecipeImportDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeImportResponseDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeResponseDto;
+import org.likelion.hsu.recipememo.Entity.Recipe;
+import org.likelion.hsu.recipememo.Enum.Category;
+import org.likelion.hsu.recipememo.Repository.RecipeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 레시피 대량 가져오기/내보내기 (NDJSON: 한 줄에 레시피 JSON 하나)
+ *
+ * 가져오기: 요청 본문을 한 줄씩 읽어 batch-size 건마다 한 트랜잭션으로 저장한다.
+ * 시퀀스(pooled) ID + hibernate.jdbc.batch_size + order_inserts 덕분에 recipe, recipe_ingredients,
+ * recipe_steps INSERT가 각각 JDBC 배치로 묶인다. 배치마다 영속성 컨텍스트를 비우므로 전체 건수와 상관없이 메모리가 일정하다.
+ * 내보내기: id 순으로 청크 단위(쿼리 3번)로 읽어 바로 응답 스트림에 쓴다.
+ */
+@Service
+@Slf4j
+public class RecipeBulkService {
+
+    private static final int EXPORT_CHUNK_SIZE = 1_000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final RecipeRepository recipeRepository;
+    private final RecipeSearchIndex recipeSearchIndex;
+    private final RecipeCacheEvictor recipeCacheEvictor;
+    private final CategoryStatService categoryStatService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readTransaction;
+    private final ObjectReader importReader;
+    private final ObjectWriter exportWriter;
+    private final int importBatchSize;
+
+    public RecipeBulkService(RecipeRepository recipeRepository,
+                             RecipeSearchIndex recipeSearchIndex,
+                             RecipeCacheEvictor recipeCacheEvictor,
+                             CategoryStatService categoryStatService,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             @Value("${recipe.import.batch-size:500}") int importBatchSize) {
+        this.recipeRepository = recipeRepository;
+        this.recipeSearchIndex = recipeSearchIndex;
+        this.recipeCacheEvictor = recipeCacheEvictor;
+        this.categoryStatService = categoryStatService;
+        this.entityManager = entityManager;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.importReader = objectMapper.readerFor(RecipeImportDto.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES); // 내보내기 결과의 id, updatedAt 등은 무시
+        this.exportWriter = objectMapper.writerFor(RecipeResponseDto.class);
+        this.importBatchSize = importBatchSize;
+    }
+
+    /**
+     * NDJSON 스트림을 읽어 레시피를 저장
+     * 형식이 잘못된 줄은 건너뛰고 결과에 줄 번호를 남긴다. 이미 커밋된 배치는 이후 배치가 실패해도 유지된다.
+     */
+    public RecipeImportResponseDto importRecipes(InputStream body) throws IOException {
+        long start = System.currentTimeMillis();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        List<Recipe> batch = new ArrayList<>(importBatchSize);
+        List<String> errors = new ArrayList<>();
+        long imported = 0;
+        long failed = 0;
+        long lineNumber = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                batch.add(toRecipe(importReader.readValue(line)));
+            } catch (IOException | IllegalArgumentException e) { // JSON 형식 오류, 알 수 없는 카테고리, 필수 값 누락
+                failed++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(lineNumber + "번째 줄: " + e.getMessage());
+                }
+                continue;
+            }
+            if (batch.size() == importBatchSize) {
+                imported += saveBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            imported += saveBatch(batch);
+        }
+
+        log.info("레시피 가져오기 완료: 저장 {}건, 실패 {}건, {}ms", imported, failed, System.currentTimeMillis() - start);
+        return new RecipeImportResponseDto(imported, failed, errors);
+    }
+
+    /**
+     * 전체 레시피를 id 순으로 NDJSON으로 출력 (각 줄은 상세 조회와 같은 RecipeResponseDto 형식)
+     */
+    public void exportRecipes(OutputStream out) throws IOException {
+        long after = 0;
+        while (true) {
+            List<RecipeResponseDto> chunk = loadChunk(after);
+            for (RecipeResponseDto recipe : chunk) {
+                out.write(exportWriter.writeValueAsBytes(recipe));
+                out.write('\n');
+            }
+            out.flush(); // 청크마다 클라이언트로 흘려보냄
+            if (chunk.size() < EXPORT_CHUNK_SIZE) {
+                return;
+            }
+            after = chunk.get(chunk.size() - 1).getId();
+        }
+    }
+
+    // 한 배치를 한 트랜잭션으로 저장하고, 커밋 후 검색 색인/목록 캐시에 반영
+    private int saveBatch(List<Recipe> batch) {
+        List<Recipe> recipes = new ArrayList<>(batch);
+        writeTransaction.executeWithoutResult(status -> {
+            Map<Category, Long> counts = new EnumMap<>(Category.class);
+            for (Recipe recipe : recipes) {
+                entityManager.persist(recipe);
+                counts.merge(recipe.getCategory(), 1L, Long::sum);
+            }
+            entityManager.flush(); // 여기서 batch_size 단위로 묶인 INSERT가 실행됨
+            entityManager.clear(); // 저장한 엔티티를 영속성 컨텍스트에서 떼어 메모리를 일정하게 유지
+
+            categoryStatService.recordImported(counts); // 배치당 카테고리별로 UPDATE 한 번씩
+            recipeSearchIndex.indexAllAfterCommit(recipes);
+            recipeCacheEvictor.evictCategoriesAfterCommit(counts.keySet());
+        });
+        return recipes.size();
+    }
+
+    // 청크 하나를 읽어 DTO로 변환 (id 조회 1번 + 재료 fetch join 1번 + 과정 fetch join 1번)
+    private List<RecipeResponseDto> loadChunk(long after) {
+        return readTransaction.execute(status -> {
+            List<Long> ids = recipeRepository.findIdsAfter(after, PageRequest.of(0, EXPORT_CHUNK_SIZE));
+            if (ids.isEmpty()) {
+                return Collections.<RecipeResponseDto>emptyList();
+            }
+            // fetch join 결과에는 재료 수만큼 같은 엔티티가 반복되므로 순서를 유지한 채 중복 제거
+            Set<Recipe> recipes = new LinkedHashSet<>(recipeRepository.findWithIngredientsByIdIn(ids));
+            recipeRepository.fetchStepsIn(recipes);
+
+            List<RecipeResponseDto> chunk = new ArrayList<>(recipes.size());
+            for (Recipe recipe : recipes) {
+                chunk.add(RecipeResponseDto.from(recipe));
+            }
+            return chunk;
+        });
+    }
+
+    private static Recipe toRecipe(RecipeImportDto dto) {
+        if (dto.getTitle() == null || dto.getFirebaseUid() == null) {
+            throw new IllegalArgumentException("title과 firebaseUid는 필수입니다.");
+        }
+        return Recipe.builder()
+                .title(dto.getTitle())
+                .category(Category.fromDisplayName(dto.getCategory()))
+                .cookingTime(dto.getCookingTime())
+                .difficulty(dto.getDifficulty())
+                .ingredients(dto.getIngredients())
+                .content(dto.getContent())
+                .steps(dto.getSteps())
+                .imageUrl(dto.getImageUrl())
+                .firebaseUid(dto.getFirebaseUid())
+                .build();
+    }
+}
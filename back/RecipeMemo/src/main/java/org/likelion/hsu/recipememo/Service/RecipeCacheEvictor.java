@@ -0,0 +1,70 @@
+package org.likelion.hsu.recipememo.Service;
+
+import lombok.RequiredArgsConstructor;
+import org.likelion.hsu.recipememo.Config.CacheConfig;
+import org.likelion.hsu.recipememo.Enum.Category;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 레시피가 생성/수정/삭제될 때 영향을 받는 캐시 항목만 골라서 지우는 컴포넌트
+ * 카테고리가 바뀐 경우 이전 카테고리와 새 카테고리의 목록을 모두 지운다. 홈 화면 요약은 항상 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecipeCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 현재 트랜잭션 커밋 후 레시피 상세 캐시와 관련 카테고리 목록 캐시를 제거
+     *
+     * @param id         변경된 레시피 ID (새로 생성된 경우에도 상세 캐시는 비어 있으므로 그대로 넘겨도 됨)
+     * @param categories 목록이 바뀌는 카테고리들 (수정 시 이전/새 카테고리)
+     */
+    public void evictAfterCommit(Long id, Category... categories) {
+        TransactionHooks.afterCommit(() -> evict(id, categories));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 카테고리 목록 캐시만 제거 (새로 추가된 레시피들은 상세 캐시가 없음)
+     */
+    public void evictCategoriesAfterCommit(Collection<Category> categories) {
+        TransactionHooks.afterCommit(() -> {
+            Cache pageCache = cacheManager.getCache(CacheConfig.CATEGORY_PAGE);
+            categories.forEach(category -> evictCategoryPages(pageCache, category));
+            cacheManager.getCache(CacheConfig.HOME_SUMMARY).clear();
+        });
+    }
+
+    private void evict(Long id, Category... categories) {
+        Cache detailCache = cacheManager.getCache(CacheConfig.RECIPE_DETAIL);
+        Cache pageCache = cacheManager.getCache(CacheConfig.CATEGORY_PAGE);
+
+        detailCache.evict(id);
+        for (Category category : categories) {
+            if (category == null) {
+                continue;
+            }
+            detailCache.evict(category.name() + ":" + id);
+            evictCategoryPages(pageCache, category);
+        }
+        cacheManager.getCache(CacheConfig.HOME_SUMMARY).clear(); // 개수/미리보기 모두 바뀔 수 있음
+    }
+
+    // "카테고리:" 로 시작하는 페이지 캐시만 제거 (다른 카테고리 목록은 유지)
+    @SuppressWarnings("unchecked")
+    private void evictCategoryPages(Cache pageCache, Category category) {
+        String prefix = category.name() + ":";
+        Object nativeCache = pageCache.getNativeCache();
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache) {
+            ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache).asMap().keySet()
+                    .removeIf(key -> key.toString().startsWith(prefix));
+        } else {
+            pageCache.clear();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.likelion.hsu.recipememo.Service;
+
+/**
+ * 요청한 ID의 레시피가 없을 때 (RecipeController가 404로 응답)
+ *
+ * 없는 ID를 훑는 크롤러 요청마다 발생하므로 스택 트레이스를 만들지 않는다. (fillInStackTrace 생략)
+ * 응답에 필요한 정보는 ID뿐이라 스택이 없어도 원인 파악에 지장이 없다.
+ */
+public class RecipeNotFoundException extends RuntimeException {
+
+    private final Long recipeId;
+
+    public RecipeNotFoundException(Long recipeId) {
+        super("레시피를 찾을 수 없습니다.", null, false, false);
+        this.recipeId = recipeId;
+    }
+
+    public Long getRecipeId() {
+        return recipeId;
+    }
+}
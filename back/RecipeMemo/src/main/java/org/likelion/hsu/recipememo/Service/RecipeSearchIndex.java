@@ -0,0 +1,402 @@
+package org.likelion.hsu.recipememo.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.likelion.hsu.recipememo.Entity.Recipe;
+import org.likelion.hsu.recipememo.Repository.RecipeRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 레시피 검색용 인메모리 n-gram 역색인
+ *
+ * 제목/재료/내용을 소문자 + 공백·기호 제거로 정규화한 뒤 2-gram(제목, 재료는 1-gram 포함)으로 쪼개 색인한다.
+ * 한글은 형태소 분석 없이도 2-gram 교집합만으로 부분 일치 검색이 잘 되기 때문에 별도 검색 엔진을 두지 않는다.
+ *
+ * 색인 구조: gram → (레시피 id 정렬 배열 + 그 gram이 나타난 필드 비트마스크)
+ *          레시피 id → 그 레시피가 들어 있는 gram 목록들 (수정/삭제 시 해당 목록에서만 빼기 위해)
+ * 검색어의 모든 gram 목록을 교집합하면서 필드 마스크도 AND 해 두면, 어느 필드에서 일치했는지까지 한 번에 알 수 있고
+ * 필드 가중치 합으로 순위를 매긴다. (제목 3 > 재료 2 > 내용 1, 같은 점수면 최신순)
+ *
+ * 생성/수정/삭제는 커밋 이후 증분 반영되고, 서버 시작 시 DB를 스트리밍으로 읽어 한 번 전체를 만든다.
+ * 인스턴스마다 메모리에 따로 존재하므로 여러 대로 띄우면 다른 인스턴스의 변경은 재시작 전까지 반영되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecipeSearchIndex {
+
+    /**
+     * 검색 대상 필드와 순위 가중치
+     */
+    public enum Field {
+        TITLE(3), INGREDIENT(2), CONTENT(1);
+
+        private final int weight;
+
+        Field(int weight) {
+            this.weight = weight;
+        }
+
+        private int bit() {
+            return 1 << ordinal();
+        }
+    }
+
+    private final RecipeRepository recipeRepository;
+
+    // 순위 값의 상위 비트에 점수(최대 6)를, 나머지 비트에 id를 담음
+    private static final int SCORE_SHIFT = 60;
+    private static final long MAX_INDEX_ID = (1L << SCORE_SHIFT) - 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>(); // gram → 레시피 id 목록
+    private final Map<Long, PostingList[]> documents = new HashMap<>(); // 레시피 id → 색인된 gram 목록들
+    private final Set<Long> removedDuringRebuild = ConcurrentHashMap.newKeySet(); // 재색인 도중 삭제된 id
+    private volatile boolean ready = false;
+
+    /**
+     * 서버 시작 시 DB 전체를 읽어 색인을 만든다.
+     * 제목/내용 스트림과 재료 스트림을 모두 id 순으로 읽어 병합하므로 레시피 수와 상관없이 메모리를 일정하게 쓴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        int count = 0;
+
+        try (Stream<Object[]> recipeRows = recipeRepository.streamSearchFields();
+             Stream<Object[]> ingredientRows = recipeRepository.streamIngredients()) {
+            Iterator<Object[]> ingredients = ingredientRows.iterator();
+            Object[] pending = ingredients.hasNext() ? ingredients.next() : null;
+
+            for (Iterator<Object[]> it = recipeRows.iterator(); it.hasNext(); ) {
+                Object[] row = it.next();
+                long id = (Long) row[0];
+
+                List<String> recipeIngredients = new ArrayList<>();
+                while (pending != null && (Long) pending[0] <= id) {
+                    if ((Long) pending[0] == id) {
+                        recipeIngredients.add((String) pending[1]);
+                    }
+                    pending = ingredients.hasNext() ? ingredients.next() : null;
+                }
+
+                Map<String, Integer> grams = documentGrams((String) row[1], recipeIngredients, (String) row[2]);
+                if (putIfAbsent(id, grams)) {
+                    count++;
+                }
+            }
+        }
+
+        ready = true;
+        removedDuringRebuild.clear();
+        log.info("레시피 검색 색인 완료: {}건, {}개 gram, {}ms", count, postings.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 초기 색인이 끝났는지 여부 (끝나기 전에는 서비스가 DB 검색으로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 저장된 레시피를 현재 트랜잭션 커밋 후 색인에 반영 (기존 색인은 교체)
+     */
+    public void indexAfterCommit(Recipe recipe) {
+        long id = recipe.getId();
+        Map<String, Integer> grams = documentGrams(recipe.getTitle(), recipe.getIngredients(), recipe.getContent());
+        TransactionHooks.afterCommit(() -> put(id, grams));
+    }
+
+    /**
+     * 대량 가져오기로 저장된 레시피들을 커밋 후 한 번의 쓰기 락으로 색인에 추가
+     */
+    public void indexAllAfterCommit(Collection<Recipe> recipes) {
+        Map<Long, Map<String, Integer>> saved = new LinkedHashMap<>();
+        for (Recipe recipe : recipes) {
+            saved.put(recipe.getId(), documentGrams(recipe.getTitle(), recipe.getIngredients(), recipe.getContent()));
+        }
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                saved.forEach((id, grams) -> {
+                    removePostings(id);
+                    addPostings(id, grams);
+                });
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 삭제된 레시피를 현재 트랜잭션 커밋 후 색인에서 제거
+     */
+    public void removeAfterCommit(Long recipeId) {
+        long id = recipeId;
+        TransactionHooks.afterCommit(() -> remove(id));
+    }
+
+    /**
+     * 검색어의 모든 gram을 fields 중 하나 이상에 포함하는 레시피 id를 순위순으로 한 페이지 반환
+     */
+    public Page<Long> search(String keyword, Set<Field> fields, Pageable pageable) {
+        List<String> grams = queryGrams(keyword);
+        int fieldMask = 0;
+        for (Field field : fields) {
+            fieldMask |= field.bit();
+        }
+        if (grams.isEmpty() || fieldMask == 0) {
+            return Page.empty(pageable);
+        }
+
+        long[] ranked; // (점수 << SCORE_SHIFT | id) 를 정렬해 순위를 매김
+        int matches = 0;
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                PostingList list = postings.get(gram);
+                if (list == null) {
+                    return Page.empty(pageable);
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(PostingList::size)); // 가장 짧은 목록을 기준으로 교집합
+
+            PostingList smallest = lists.get(0);
+            ranked = new long[smallest.size()];
+            for (int i = 0; i < smallest.size(); i++) {
+                long id = smallest.ids[i];
+                int mask = smallest.masks[i] & fieldMask;
+                for (int j = 1; j < lists.size() && mask != 0; j++) {
+                    mask &= lists.get(j).maskOf(id);
+                }
+                if (mask != 0) {
+                    ranked[matches++] = ((long) score(mask) << SCORE_SHIFT) | id;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Arrays.sort(ranked, 0, matches); // 오름차순 정렬 → 뒤에서부터 읽으면 점수 높은 순, 같은 점수는 최신 id 순
+        int from = (int) Math.min(pageable.getOffset(), matches);
+        int to = Math.min(from + pageable.getPageSize(), matches);
+        List<Long> ids = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            ids.add(ranked[matches - 1 - i] & MAX_INDEX_ID);
+        }
+        return new PageImpl<>(ids, pageable, matches);
+    }
+
+    // 재색인 중 이미 더 최신 상태로 색인됐거나 삭제된 레시피는 건너뜀
+    private boolean putIfAbsent(long id, Map<String, Integer> grams) {
+        lock.writeLock().lock();
+        try {
+            if (documents.containsKey(id) || removedDuringRebuild.contains(id)) {
+                return false;
+            }
+            addPostings(id, grams);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void put(long id, Map<String, Integer> grams) {
+        lock.writeLock().lock();
+        try {
+            removePostings(id);
+            addPostings(id, grams);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removePostings(id);
+            if (!ready) {
+                removedDuringRebuild.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 순위 계산용 long 하나에 점수와 id를 함께 담으므로 그보다 큰 id는 색인하지 않음 (검색되지 않을 뿐 저장은 정상 처리)
+    private void addPostings(long id, Map<String, Integer> grams) {
+        if (id < 0 || id > MAX_INDEX_ID) {
+            log.warn("검색 색인 범위를 넘는 레시피 id라 색인하지 않음: {}", id);
+            return;
+        }
+        PostingList[] lists = new PostingList[grams.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> gram : grams.entrySet()) {
+            PostingList list = postings.computeIfAbsent(gram.getKey(), PostingList::new);
+            list.add(id, gram.getValue());
+            lists[i++] = list;
+        }
+        documents.put(id, lists);
+    }
+
+    // 수정/삭제 시 그 레시피가 들어 있는 gram 목록에서만 id를 지운다. (전체 gram 사전을 훑지 않으므로 쓰기 락을 짧게 잡음)
+    private void removePostings(long id) {
+        PostingList[] lists = documents.remove(id);
+        if (lists == null) {
+            return;
+        }
+        for (PostingList list : lists) {
+            if (list.remove(id) && list.size() == 0) {
+                postings.remove(list.gram);
+            }
+        }
+    }
+
+    private static int score(int mask) {
+        int score = 0;
+        for (Field field : Field.values()) {
+            if ((mask & field.bit()) != 0) {
+                score += field.weight;
+            }
+        }
+        return score;
+    }
+
+    // ===== 토큰화 =====
+
+    // 소문자로 바꾸고 글자/숫자만 남김 ("김치 찌개!" → "김치찌개")
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        text.toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    // 문서 하나의 gram → 필드 마스크
+    static Map<String, Integer> documentGrams(String title, Collection<String> ingredients, String content) {
+        Map<String, Integer> grams = new HashMap<>();
+        addGrams(grams, normalize(title), Field.TITLE, true);
+        if (ingredients != null) {
+            for (String ingredient : ingredients) {
+                addGrams(grams, normalize(ingredient), Field.INGREDIENT, true); // 재료끼리 이어 붙이지 않도록 하나씩
+            }
+        }
+        addGrams(grams, normalize(content), Field.CONTENT, false); // 내용은 길어서 1-gram은 색인하지 않음
+        return grams;
+    }
+
+    private static void addGrams(Map<String, Integer> grams, String text, Field field, boolean withUnigrams) {
+        for (int i = 0; i < text.length(); i++) {
+            if (withUnigrams) {
+                grams.merge(text.substring(i, i + 1), field.bit(), (a, b) -> a | b);
+            }
+            if (i + 2 <= text.length()) {
+                grams.merge(text.substring(i, i + 2), field.bit(), (a, b) -> a | b);
+            }
+        }
+    }
+
+    // 검색어의 gram 목록 (한 글자면 1-gram, 그 이상이면 2-gram)
+    static List<String> queryGrams(String keyword) {
+        String text = normalize(keyword);
+        if (text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (text.length() == 1) {
+            return Collections.singletonList(text);
+        }
+        List<String> grams = new ArrayList<>(text.length() - 1);
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            String gram = text.substring(i, i + 2);
+            if (!grams.contains(gram)) {
+                grams.add(gram);
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 하나의 gram에 대한 레시피 id 정렬 배열과 필드 마스크
+     * Set<Long> 대신 원시 배열을 써서 항목당 9바이트로 유지한다.
+     */
+    private static final class PostingList {
+        private final String gram;
+        private long[] ids = new long[2];
+        private byte[] masks = new byte[2];
+        private int size;
+
+        PostingList(String gram) {
+            this.gram = gram;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void add(long id, int mask) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                masks[pos] |= (byte) mask;
+                return;
+            }
+            pos = -pos - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                masks = Arrays.copyOf(masks, size * 2);
+            }
+            System.arraycopy(ids, pos, ids, pos + 1, size - pos); // 새 레시피는 보통 맨 뒤라 이동 없음
+            System.arraycopy(masks, pos, masks, pos + 1, size - pos);
+            ids[pos] = id;
+            masks[pos] = (byte) mask;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            System.arraycopy(masks, pos + 1, masks, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+
+        int maskOf(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            return pos < 0 ? 0 : masks[pos];
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package org.likelion.hsu.recipememo.Service;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.likelion.hsu.recipememo.Config.CacheConfig;
 import org.likelion.hsu.recipememo.Dto.Request.RecipeRequestDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeCursorPageDto;
 import org.likelion.hsu.recipememo.Dto.Response.RecipeListResponseDto;
 import org.likelion.hsu.recipememo.Dto.Response.RecipeResponseDto;
 import org.likelion.hsu.recipememo.Dto.Response.RecipeSearchResponseDto;
@@ -9,37 +13,60 @@ import org.likelion.hsu.recipememo.Dto.Response.RecipeTitleResponseDto;
 import org.likelion.hsu.recipememo.Entity.Recipe;
 import org.likelion.hsu.recipememo.Enum.Category;
 import org.likelion.hsu.recipememo.Repository.RecipeRepository;
+import org.likelion.hsu.recipememo.Storage.ImageStorage;
+import org.likelion.hsu.recipememo.Storage.StoredImage;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class RecipeService {
 
     // 레시피 데이터베이스와 통신하는 JPA 리포지토리를 이 클래스 내부에서 사용하겠다는 선언.
     private final RecipeRepository recipeRepository;
 
+    // 제목/재료/내용 검색용 인메모리 n-gram 색인
+    private final RecipeSearchIndex recipeSearchIndex;
+
+    // 생성/수정/삭제 시 상세/목록 캐시 무효화
+    private final RecipeCacheEvictor recipeCacheEvictor;
+
+    // 업로드 이미지 저장소 (기본: 로컬 파일시스템)
+    private final ImageStorage imageStorage;
+
+    // 썸네일/중간 크기 이미지 백그라운드 생성
+    private final ThumbnailGenerator thumbnailGenerator;
+
+    // 업로드 단계별 시간/크기 메트릭
+    private final UploadMetrics uploadMetrics;
+
+    // 카테고리별 레시피 개수 (홈 화면 요약)
+    private final CategoryStatService categoryStatService;
+
+    // 더 이상 쓰지 않는 이미지 파일 정리 예약 (삭제는 백그라운드에서)
+    private final ImageCleanupOutbox imageCleanupOutbox;
+
     // 사용자가 입력한 레시피 정보와 이미지 파일을 받아 DB와 서버에 저장하는 기능
+    @Transactional
     public RecipeResponseDto createRecipeWithImage(RecipeRequestDto dto, MultipartFile imageFile) throws IOException {
-        String imagePath = null;
-
-        if (imageFile != null && !imageFile.isEmpty()) {
-            String fileName = UUID.randomUUID() + "_" + imageFile.getOriginalFilename();
-            Path imageDir = Paths.get("uploads");
-            Files.createDirectories(imageDir);
-            Path filePath = imageDir.resolve(fileName);
-            Files.copy(imageFile.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-            imagePath = "/uploads/" + fileName;
-        }
+        String imagePath = storeImage(imageFile);
 
         // DTO → Entity 변환 및 저장
         Recipe recipe = Recipe.builder()
@@ -54,79 +81,246 @@ public class RecipeService {
                 .firebaseUid(dto.getFirebaseUid())
                 .build();
 
-        return RecipeResponseDto.from(recipeRepository.save(recipe));
+        Timer.Sample saveSample = uploadMetrics.start();
+        Recipe saved = recipeRepository.save(recipe);
+        uploadMetrics.saved(saveSample);
+        recipeSearchIndex.indexAfterCommit(saved); // 커밋되면 검색 색인에도 추가
+        categoryStatService.recordCreated(saved.getCategory());
+        recipeCacheEvictor.evictAfterCommit(saved.getId(), saved.getCategory()); // 해당 카테고리 목록 캐시 제거
+        thumbnailGenerator.generateAfterCommit(saved.getId(), saved.getImageUrl(), saved.getCategory()); // 커밋 후 썸네일 생성
+        return RecipeResponseDto.from(saved);
         // DB에 레시피 저장 (save())
         // 저장된 Recipe 엔티티를 RecipeResponseDto로 변환해 응답
     }
     // createRecipeWithImage() 메서드는 사용자가 보낸 레시피 정보(JSON) 와 이미지 파일을 함께 받아서,
     // 이미지는 서버에 저장하고, 레시피는 DB에 저장한 뒤, 저장된 정보를 DTO로 반환하는 역할을 한다.
 
-    // 특정 카테고리에 속한 레시피들의 제목과 이미지 목록을 반환하는 기능
-    public RecipeListResponseDto getAllTitlesByCategory(Category category) {
-        List<RecipeTitleResponseDto> titles = recipeRepository.findByCategory(category).stream()
-                .map(RecipeTitleResponseDto::from)
-                .collect(Collectors.toList());
-        return new RecipeListResponseDto(category.getDisplayName(), titles); // DTO에는 displayName을 넘겨주면 됨
+    // 특정 카테고리에 속한 레시피들의 제목과 이미지 목록을 최신순으로 한 페이지씩 반환하는 기능
+    // after: 이전 페이지의 nextCursor (첫 페이지면 null), limit: 한 페이지 크기
+    @Cacheable(cacheNames = CacheConfig.CATEGORY_PAGE, key = "#category.name() + ':' + #after + ':' + #limit", sync = true)
+    @Transactional(readOnly = true)
+    public RecipeListResponseDto getTitlesByCategory(Category category, Long after, int limit) {
+        Pageable pageable = pageOf(limit);
+        List<RecipeTitleResponseDto> titles = (after == null)
+                ? recipeRepository.findTitlesByCategory(category, pageable)
+                : recipeRepository.findTitlesByCategoryAfter(category, after, pageable);
+
+        Long nextCursor = null;
+        if (titles.size() > limit) {
+            titles = new ArrayList<>(titles.subList(0, limit));
+            nextCursor = titles.get(limit - 1).getId();
+        }
+        return new RecipeListResponseDto(category.getDisplayName(), titles, nextCursor); // DTO에는 displayName을 넘겨주면 됨
     }
+    // 카테고리 전체를 메모리에 올리지 않고 (category, id) 인덱스를 따라 limit + 1 개만 읽기 때문에
+    // 카테고리 크기와 상관없이 응답 시간과 메모리 사용량이 일정하게 유지된다.
+    // 엔티티 대신 id, title, imageUrl만 담긴 DTO를 바로 조회하므로 ingredients/steps 테이블은 건드리지 않는다.
 
     // 특정 카테고리와 ID에 해당하는 레시피 한 개를 상세 조회하는 기능
+    @Cacheable(cacheNames = CacheConfig.RECIPE_DETAIL, key = "#category.name() + ':' + #id", sync = true)
+    @Transactional(readOnly = true)
     public RecipeResponseDto getRecipeByCategoryAndId(Category category, Long id) {
-        Recipe recipe = recipeRepository.findByIdAndCategory(id, category)
-                .orElseThrow(() -> new RuntimeException("카테고리 및 ID에 해당하는 레시피를 찾을 수 없습니다."));
+        Recipe recipe = recipeRepository.findWithIngredientsByIdAndCategory(id, category)
+                .orElseThrow(() -> new RecipeNotFoundException(id));
+        recipeRepository.fetchSteps(recipe); // 같은 트랜잭션 안에서 steps까지 채움 → 총 2번의 쿼리
         return RecipeResponseDto.from(recipe);
     }
 
     // 기존에 등록된 레시피를 새로운 내용으로 수정하고, 필요 시 이미지도 새로 교체하는 기능
+    // 재료/과정은 기존 목록과 위치별로 비교해 바뀐 행만 UPDATE/INSERT/DELETE 한다.
+    @Transactional
     public RecipeResponseDto updateRecipe(Long id, RecipeRequestDto dto, MultipartFile imageFile) throws IOException {
-        Recipe recipe = recipeRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("레시피를 찾을 수 없습니다."));
+        Recipe recipe = findForUpdate(id, dto.getVersion());
+        Category previousCategory = recipe.getCategory();
 
         recipe.setTitle(dto.getTitle());
         recipe.setCategory(Category.fromDisplayName(dto.getCategory()));
         recipe.setCookingTime(dto.getCookingTime());
         recipe.setDifficulty(dto.getDifficulty());
-        recipe.setIngredients(dto.getIngredients());
+        recipe.changeIngredients(dto.getIngredients());
         recipe.setContent(dto.getContent());
-        recipe.setSteps(dto.getSteps());
+        recipe.changeSteps(dto.getSteps());
+        recipe.touch(); // 컬렉션만 바뀌면 @PreUpdate가 불리지 않으므로 변경 시각을 직접 갱신
 
-        if (imageFile != null && !imageFile.isEmpty()) {
-            String fileName = UUID.randomUUID() + "_" + imageFile.getOriginalFilename();
-            Path imageDir = Paths.get("uploads");
-            Files.createDirectories(imageDir);
-            Path filePath = imageDir.resolve(fileName);
-            Files.copy(imageFile.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-            recipe.setImageUrl("/uploads/" + fileName);
+        String previousImageUrl = recipe.getImageUrl();
+        String newImageUrl = storeImage(imageFile);
+        boolean imageChanged = newImageUrl != null && !newImageUrl.equals(previousImageUrl);
+        if (imageChanged) {
+            recipe.setImageUrl(newImageUrl);
+            recipe.setThumbnailUrl(null); // 새 사진의 썸네일이 만들어질 때까지는 원본 사용
+            recipe.setMediumUrl(null);
+            imageCleanupOutbox.enqueue(previousImageUrl); // 교체된 이전 이미지 정리 예약 (같은 트랜잭션)
+        }
+
+        Recipe saved = recipeRepository.saveAndFlush(recipe); // flush → 증가된 version을 응답에 담음
+        recipeSearchIndex.indexAfterCommit(saved); // 커밋되면 검색 색인도 새 내용으로 교체
+        categoryStatService.recordMoved(previousCategory, saved.getCategory());
+        recipeCacheEvictor.evictAfterCommit(id, previousCategory, saved.getCategory()); // 카테고리가 바뀌었으면 양쪽 목록 모두 제거
+        if (imageChanged) {
+            thumbnailGenerator.generateAfterCommit(id, newImageUrl, saved.getCategory());
+        }
+        return RecipeResponseDto.from(saved);
+    }
+
+    // 요청에 들어 있는 필드만 수정하는 기능 (PATCH, null인 필드는 그대로 둠 / 이미지는 PUT으로만 교체)
+    @Transactional
+    public RecipeResponseDto patchRecipe(Long id, RecipeRequestDto dto) {
+        Recipe recipe = findForUpdate(id, dto.getVersion());
+        Category previousCategory = recipe.getCategory();
+        Category category = dto.getCategory() == null ? null : Category.fromDisplayName(dto.getCategory());
+        boolean changed = false;
+
+        if (differs(recipe.getTitle(), dto.getTitle())) {
+            recipe.setTitle(dto.getTitle());
+            changed = true;
+        }
+        if (differs(recipe.getCategory(), category)) {
+            recipe.setCategory(category);
+            changed = true;
+        }
+        if (differs(recipe.getCookingTime(), dto.getCookingTime())) {
+            recipe.setCookingTime(dto.getCookingTime());
+            changed = true;
+        }
+        if (differs(recipe.getDifficulty(), dto.getDifficulty())) {
+            recipe.setDifficulty(dto.getDifficulty());
+            changed = true;
+        }
+        if (differs(recipe.getContent(), dto.getContent())) {
+            recipe.setContent(dto.getContent());
+            changed = true;
+        }
+        if (dto.getIngredients() != null && recipe.changeIngredients(dto.getIngredients())) {
+            changed = true;
+        }
+        if (dto.getSteps() != null && recipe.changeSteps(dto.getSteps())) {
+            changed = true;
+        }
+        if (!changed) {
+            return RecipeResponseDto.from(recipe); // 바뀐 것이 없으면 UPDATE 없이 그대로 응답 (version/updatedAt, 즉 ETag 유지)
         }
+        recipe.touch();
 
-        return RecipeResponseDto.from(recipeRepository.save(recipe));
+        recipeSearchIndex.indexAfterCommit(recipe);
+        categoryStatService.recordMoved(previousCategory, recipe.getCategory());
+        recipeCacheEvictor.evictAfterCommit(id, previousCategory, recipe.getCategory());
+        return RecipeResponseDto.from(recipeRepository.saveAndFlush(recipe)); // flush → 증가된 version을 응답에 담음
+    }
+
+    // PATCH 본문에 값이 있고 현재 값과 다를 때만 true (null = 보내지 않은 필드)
+    private static <T> boolean differs(T current, T requested) {
+        return requested != null && !requested.equals(current);
     }
 
     // 특정 ID에 해당하는 레시피를 데이터베이스에서 삭제하는 기능
+    @Transactional
     public void deleteRecipe(Long id) {
         Recipe recipe = recipeRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("레시피를 찾을 수 없습니다."));
+                .orElseThrow(() -> new RecipeNotFoundException(id));
         recipeRepository.delete(recipe);
+        imageCleanupOutbox.enqueue(recipe.getImageUrl()); // 레시피와 함께 이미지도 정리 예약 (같은 트랜잭션)
+        recipeSearchIndex.removeAfterCommit(id); // 커밋되면 검색 색인에서도 제거
+        categoryStatService.recordDeleted(recipe.getCategory());
+        recipeCacheEvictor.evictAfterCommit(id, recipe.getCategory());
     }
 
-    // 레시피 제목에 특정 키워드가 포함된 경우 그 레시피들의 목록을 검색해서 응답하는 기능
-    public RecipeSearchResponseDto searchRecipesByTitle(String title) {
-        List<RecipeTitleResponseDto> results = recipeRepository.findByTitleContainingIgnoreCase(title).stream()
-                .map(RecipeTitleResponseDto::from)
+    // 키워드가 포함된 레시피를 검색 색인에서 찾아 순위순으로 한 페이지 응답하는 기능
+    // fields: 검색할 필드 (제목만 / 재료만 / 전체), page: 0부터 시작하는 페이지 번호
+    @Transactional(readOnly = true)
+    public RecipeSearchResponseDto searchRecipes(String keyword, Set<RecipeSearchIndex.Field> fields, int page, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            return new RecipeSearchResponseDto(Collections.emptyList(), 0, null);
+        }
+        Pageable pageable = PageRequest.of(page, size);
+
+        if (!recipeSearchIndex.isReady()) {
+            // 서버 시작 직후 색인이 만들어지는 동안에는 기존처럼 제목 LIKE 검색으로 대체
+            List<RecipeTitleResponseDto> results = recipeRepository.findTitlesByTitleContaining(keyword, pageable);
+            return new RecipeSearchResponseDto(results, results.size(), null);
+        }
+
+        Page<Long> hits = recipeSearchIndex.search(keyword, fields, pageable);
+        Map<Long, RecipeTitleResponseDto> titlesById = new HashMap<>();
+        if (hits.hasContent()) {
+            recipeRepository.findTitlesByIdIn(hits.getContent()).forEach(title -> titlesById.put(title.getId(), title));
+        }
+        List<RecipeTitleResponseDto> results = hits.getContent().stream()
+                .map(titlesById::get)
+                .filter(Objects::nonNull) // 색인 반영 직전에 삭제된 레시피는 제외
                 .collect(Collectors.toList());
-        return new RecipeSearchResponseDto(results);
+        return new RecipeSearchResponseDto(results, hits.getTotalElements(), hits.hasNext() ? page + 1 : null);
     }
+    // 색인이 id만 순위순으로 돌려주고, 제목/이미지는 id IN (...) 쿼리 한 번으로 가져와 순서대로 다시 맞춘다.
 
-    // 특정 사용자가 작성한 모든 레시피를 조회하는 기능
-    public List<RecipeTitleResponseDto> getRecipesByFirebaseUid(String firebaseUid) {
-        return recipeRepository.findByFirebaseUid(firebaseUid).stream()
-                .map(RecipeTitleResponseDto::from)
-                .collect(Collectors.toList());
+    // 특정 사용자가 작성한 레시피를 최신순으로 한 페이지(limit 개)만 조회하는 기능
+    // after: 이전 페이지의 nextCursor (첫 페이지는 null) → (firebase_uid, id) 인덱스에서 바로 이어서 읽음
+    @Transactional(readOnly = true)
+    public RecipeCursorPageDto getRecipesByFirebaseUid(String firebaseUid, Long after, int limit) {
+        Pageable pageable = pageOf(limit);
+        List<RecipeTitleResponseDto> recipes = (after == null)
+                ? recipeRepository.findTitlesByFirebaseUid(firebaseUid, pageable)
+                : recipeRepository.findTitlesByFirebaseUidAfter(firebaseUid, after, pageable);
+
+        Long nextCursor = null;
+        if (recipes.size() > limit) {
+            recipes = new ArrayList<>(recipes.subList(0, limit));
+            nextCursor = recipes.get(limit - 1).getId();
+        }
+        return new RecipeCursorPageDto(recipes, nextCursor);
+    }
+
+    // 특정 사용자가 작성한 레시피 개수 (목록을 읽지 않고 인덱스로만 셈)
+    @Transactional(readOnly = true)
+    public long countRecipesByFirebaseUid(String firebaseUid) {
+        return recipeRepository.countByFirebaseUid(firebaseUid);
+    }
+
+    // limit + 1 개만 조회 (다음 페이지 존재 여부 확인용으로 하나 더)
+    private static Pageable pageOf(int limit) {
+        return PageRequest.of(0, limit + 1);
     }
 
     // ID만으로 개별 레시피 상세 조회하는 기능 - 마이페이지에서 사용
+    @Cacheable(cacheNames = CacheConfig.RECIPE_DETAIL, key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public RecipeResponseDto getRecipeById(Long id) {
-        Recipe recipe = recipeRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("레시피를 찾을 수 없습니다."));
+        Recipe recipe = recipeRepository.findWithIngredientsById(id)
+                .orElseThrow(() -> new RecipeNotFoundException(id));
+        recipeRepository.fetchSteps(recipe); // 같은 트랜잭션 안에서 steps까지 채움 → 총 2번의 쿼리
         return RecipeResponseDto.from(recipe);
     }
+
+    // 수정할 레시피 조회 - 클라이언트가 보낸 version이 현재와 다르면 그 사이 다른 수정이 있었으므로 충돌
+    // (조회 이후 커밋 전에 끼어든 수정은 @Version 조건부 UPDATE가 잡아냄)
+    private Recipe findForUpdate(Long id, Long expectedVersion) {
+        Recipe recipe = recipeRepository.findById(id)
+                .orElseThrow(() -> new RecipeNotFoundException(id));
+        if (expectedVersion != null && !expectedVersion.equals(recipe.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Recipe.class, id);
+        }
+        return recipe;
+    }
+
+    // 이미지가 있으면 저장소에 저장하고 URL 반환 (없으면 null)
+    // 트랜잭션이 롤백되면 이번 요청에서 새로 쓴 파일이 고아가 되지 않도록 지운다. (재사용한 기존 파일은 유지)
+    private String storeImage(MultipartFile imageFile) throws IOException {
+        if (imageFile == null || imageFile.isEmpty()) {
+            return null;
+        }
+        Timer.Sample sample = uploadMetrics.start();
+        StoredImage stored = imageStorage.store(imageFile);
+        uploadMetrics.stored(sample, imageFile.getSize(), stored.isCreated());
+        if (stored.isCreated()) {
+            TransactionHooks.afterRollback(() -> deleteImage(stored.getUrl()));
+        }
+        return stored.getUrl();
+    }
+
+    private void deleteImage(String imageUrl) {
+        try {
+            imageStorage.delete(imageUrl);
+        } catch (IOException e) {
+            log.warn("이미지 삭제 실패: {} ({})", imageUrl, e.getMessage());
+        }
+    }
 }
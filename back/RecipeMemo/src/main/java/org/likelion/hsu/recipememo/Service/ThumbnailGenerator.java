@@ -0,0 +1,218 @@
+package org.likelion.hsu.recipememo.Service;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.likelion.hsu.recipememo.Enum.Category;
+import org.likelion.hsu.recipememo.Repository.RecipeRepository;
+import org.likelion.hsu.recipememo.Storage.ImageStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드된 레시피 사진의 썸네일/중간 크기 이미지를 백그라운드에서 만드는 컴포넌트
+ *
+ * 레시피 저장 트랜잭션이 커밋된 뒤 작업을 전용 스레드 풀에 넘기고,
+ * 만들어진 파일 URL은 레시피의 thumbnailUrl, mediumUrl 컬럼에 기록한다. (목록 DTO에 그대로 노출됨)
+ * 스레드 수와 대기열 크기가 제한되어 있고, 대기열이 가득 차면 작업을 버린다. (요청 스레드가 이미지 디코딩/축소를 떠안지 않도록)
+ * 버려졌거나 서버 재시작으로 사라진 작업은 sweepMissing()이 주기적으로 썸네일이 없는 레시피를 찾아 다시 넣는다.
+ * URL 기록은 작업마다 새 트랜잭션(REQUIRES_NEW)에서 하므로, 어느 스레드에서 실행되어도 커밋 후 캐시 제거까지 반영된다.
+ * JDK의 ImageIO만 사용하므로 ImageIO가 읽지 못하는 형식(WebP 등)은 건너뛰고 원본을 그대로 쓴다.
+ */
+@Component
+@Slf4j
+public class ThumbnailGenerator {
+
+    /**
+     * 만들 이미지 크기 (가로 최대 픽셀, 원본보다 크게 늘리지는 않음)
+     */
+    enum Variant {
+        MEDIUM("medium", 640), THUMBNAIL("thumb", 240); // 큰 것부터 만들고, 작은 것은 앞 결과에서 다시 줄임
+
+        private final String suffix;
+        private final int maxWidth;
+
+        Variant(String suffix, int maxWidth) {
+            this.suffix = suffix;
+            this.maxWidth = maxWidth;
+        }
+    }
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final ImageStorage imageStorage;
+    private final RecipeRepository recipeRepository;
+    private final RecipeCacheEvictor recipeCacheEvictor;
+    private final UploadMetrics uploadMetrics;
+    private final TransactionTemplate transaction;
+    private final ThreadPoolExecutor executor;
+    private Long sweepCursor; // 지난 sweepMissing()이 마지막으로 넣은 레시피 id (끝까지 돌면 처음부터 다시)
+
+    public ThumbnailGenerator(ImageStorage imageStorage,
+                              RecipeRepository recipeRepository,
+                              RecipeCacheEvictor recipeCacheEvictor,
+                              UploadMetrics uploadMetrics,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${image.thumbnail.threads:2}") int threads,
+                              @Value("${image.thumbnail.queue-capacity:100}") int queueCapacity) {
+        this.imageStorage = imageStorage;
+        this.recipeRepository = recipeRepository;
+        this.recipeCacheEvictor = recipeCacheEvictor;
+        this.uploadMetrics = uploadMetrics;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> log.warn("썸네일 대기열이 가득 차 작업을 건너뜀 (sweepMissing()이 나중에 다시 만듦)"));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 레시피 사진의 파생 이미지 생성을 예약
+     */
+    public void generateAfterCommit(Long recipeId, String imageUrl, Category category) {
+        if (imageUrl == null) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> executor.execute(() -> generate(recipeId, imageUrl, category)));
+    }
+
+    /**
+     * 썸네일이 없는 레시피를 id 순으로 찾아 대기열의 남은 자리만큼 다시 넣는다.
+     * 한 번에 대기열 크기만큼만 보고 다음 주기에는 이어서 보므로, 썸네일을 만들 수 없는 형식(WebP 등)이 많아도 매번 같은 것만 반복하지 않는다.
+     *
+     * @return 대기열에 넣은 작업 수
+     */
+    @Scheduled(initialDelayString = "${image.thumbnail.sweep-initial-delay:PT1M}", fixedDelayString = "${image.thumbnail.sweep-interval:PT10M}")
+    public synchronized int sweepMissing() {
+        int capacity = executor.getQueue().remainingCapacity();
+        if (capacity == 0) {
+            return 0;
+        }
+        List<Object[]> missing = recipeRepository.findMissingImageVariants(sweepCursor == null ? 0L : sweepCursor, PageRequest.of(0, capacity));
+        sweepCursor = missing.size() < capacity ? null : (Long) missing.get(missing.size() - 1)[0];
+        for (Object[] row : missing) {
+            executor.execute(() -> generate((Long) row[0], (String) row[1], (Category) row[2]));
+        }
+        if (!missing.isEmpty()) {
+            log.info("썸네일이 없는 레시피 {}건을 다시 생성 대기열에 넣음", missing.size());
+        }
+        return missing.size();
+    }
+
+    private void generate(Long recipeId, String imageUrl, Category category) {
+        Timer.Sample sample = uploadMetrics.start();
+        try {
+            String mediumUrl = imageStorage.variantUrl(imageUrl, Variant.MEDIUM.suffix);
+            String thumbnailUrl = imageStorage.variantUrl(imageUrl, Variant.THUMBNAIL.suffix);
+
+            // 같은 사진이 이미 다른 레시피로 올라와 있으면 파생 이미지도 이미 있으므로 다시 만들지 않음
+            if (!imageStorage.exists(mediumUrl) || !imageStorage.exists(thumbnailUrl)) {
+                BufferedImage original;
+                try (InputStream in = imageStorage.open(imageUrl)) {
+                    original = ImageIO.read(in);
+                }
+                if (original == null) {
+                    log.info("ImageIO가 읽을 수 없는 형식이라 썸네일을 만들지 않음: {}", imageUrl);
+                    return;
+                }
+                BufferedImage medium = resize(original, Variant.MEDIUM.maxWidth);
+                imageStorage.write(mediumUrl, encodeJpeg(medium));
+                imageStorage.write(thumbnailUrl, encodeJpeg(resize(medium, Variant.THUMBNAIL.maxWidth)));
+            }
+
+            transaction.executeWithoutResult(status -> {
+                if (recipeRepository.updateImageVariants(recipeId, imageUrl, thumbnailUrl, mediumUrl,
+                        Instant.now().truncatedTo(ChronoUnit.MILLIS)) > 0) {
+                    recipeCacheEvictor.evictAfterCommit(recipeId, category); // 목록 캐시에 새 URL이 반영되도록
+                }
+            });
+            uploadMetrics.thumbnailGenerated(sample);
+            log.debug("썸네일 생성 완료: recipe={}", recipeId);
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성 실패: recipe={}, image={} ({})", recipeId, imageUrl, e.getMessage());
+        }
+    }
+
+    // 가로 maxWidth 이하로 비율을 유지해 축소 (큰 비율은 절반씩 여러 번 줄여 계단 현상을 줄임)
+    static BufferedImage resize(BufferedImage source, int maxWidth) {
+        int targetWidth = Math.min(maxWidth, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    // JPEG는 투명도를 지원하지 않으므로 흰 배경의 RGB 이미지로 그림
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,67 @@
+package org.likelion.hsu.recipememo.Service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 업로드 단계별 소요 시간과 업로드 크기 메트릭
+ *
+ * recipe.upload (timer, stage 태그): store = 이미지 저장(해시 계산 포함), save = 레시피 DB 저장,
+ * thumbnail = 백그라운드 썸네일 생성
+ * recipe.upload.size (bytes, result 태그): created = 새로 저장, deduplicated = 같은 이미지가 있어 재사용
+ */
+@Component
+public class UploadMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer storeTimer;
+    private final Timer saveTimer;
+    private final Timer thumbnailTimer;
+    private final DistributionSummary createdBytes;
+    private final DistributionSummary deduplicatedBytes;
+
+    public UploadMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.storeTimer = stageTimer("store");
+        this.saveTimer = stageTimer("save");
+        this.thumbnailTimer = stageTimer("thumbnail");
+        this.createdBytes = sizeSummary("created");
+        this.deduplicatedBytes = sizeSummary("deduplicated");
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stored(Timer.Sample sample, long bytes, boolean created) {
+        sample.stop(storeTimer);
+        (created ? createdBytes : deduplicatedBytes).record(bytes);
+    }
+
+    public void saved(Timer.Sample sample) {
+        sample.stop(saveTimer);
+    }
+
+    public void thumbnailGenerated(Timer.Sample sample) {
+        sample.stop(thumbnailTimer);
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder("recipe.upload")
+                .description("레시피 업로드 단계별 소요 시간")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary sizeSummary(String result) {
+        return DistributionSummary.builder("recipe.upload.size")
+                .description("업로드된 이미지 크기")
+                .baseUnit("bytes")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
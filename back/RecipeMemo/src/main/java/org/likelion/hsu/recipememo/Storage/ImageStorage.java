@@ -0,0 +1,85 @@
+package org.likelion.hsu.recipememo.Storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 레시피 이미지 저장소 추상화
+ * 저장 위치(로컬 디스크, 오브젝트 스토리지 등)와 상관없이 서비스는 공개 URL만 주고받는다.
+ */
+public interface ImageStorage {
+
+    /**
+     * 업로드된 이미지를 저장하고 클라이언트가 접근할 URL을 반환
+     * 내용이 같은 파일이 이미 있으면 새로 쓰지 않고 기존 URL을 반환한다.
+     *
+     * @param file 업로드된 이미지 파일
+     * @return 저장된 이미지의 공개 URL (예: /uploads/ab/cd/{sha256}.jpg)과 새로 쓴 파일인지 여부
+     */
+    StoredImage store(MultipartFile file) throws IOException;
+
+    /**
+     * 이미지와 파생 이미지(variant) 삭제 (이미 없거나 이 저장소의 URL이 아니면 아무 것도 하지 않음)
+     * 같은 내용의 이미지는 여러 레시피가 공유할 수 있으므로, 참조 여부는 호출하는 쪽에서 확인해야 한다.
+     *
+     * @param imageUrl store()가 반환했던 URL
+     */
+    void delete(String imageUrl) throws IOException;
+
+    /**
+     * 저장된 이미지를 읽기 위한 스트림 (호출한 쪽에서 close)
+     */
+    InputStream open(String imageUrl) throws IOException;
+
+    /**
+     * 로컬 디스크에 있는 이미지 파일의 경로 (파일이 없거나 디스크에 두지 않는 저장소면 null)
+     * 이미지 서빙 시 파일을 힙으로 읽지 않고 sendfile/transferTo로 바로 보내기 위해 사용한다.
+     */
+    Path locate(String imageUrl);
+
+    /**
+     * 이미지가 저장소에 있는지 여부
+     */
+    boolean exists(String imageUrl);
+
+    /**
+     * 원본 이미지에서 파생된 크기별 이미지(썸네일 등)의 URL
+     * 원본과 같은 위치에 "{원본이름}_{variant}.jpg" 로 두며, delete(원본) 시 함께 삭제된다.
+     */
+    String variantUrl(String imageUrl, String variant);
+
+    /**
+     * 지정한 URL 위치에 데이터를 원자적으로 기록 (이미 있으면 교체)
+     */
+    void write(String imageUrl, byte[] data) throws IOException;
+
+    /**
+     * 이미지가 마지막으로 저장된 시각 (store()가 같은 내용의 기존 파일을 재사용한 시각 포함, 파일이 없으면 null)
+     * 정리 작업이 방금 재사용되어 아직 커밋 전인 레시피가 쓸 수 있는 파일을 지우지 않도록 확인할 때 사용한다.
+     */
+    Instant lastStored(String imageUrl) throws IOException;
+
+    /**
+     * 저장된 원본 이미지의 URL 목록 (호출한 쪽에서 close)
+     * 파생 이미지와 쓰는 중인 임시 파일은 제외하고, modifiedBefore 이전에 마지막으로 수정된 것만 돌려준다.
+     * 어떤 레시피도 참조하지 않는 파일을 찾아 정리할 때 사용한다. (방금 저장되어 아직 커밋 전인 파일은 건너뛰도록)
+     */
+    Stream<String> listImages(Instant modifiedBefore) throws IOException;
+
+    /**
+     * 같은 파일을 가리키는 URL 전체 (자기 자신 포함)
+     * 저장 위치 규칙이 바뀌기 전의 URL이 DB에 남아 있을 수 있으므로, 참조 여부는 이 목록 전체로 확인해야 한다.
+     */
+    Set<String> aliases(String imageUrl);
+
+    /**
+     * 현재 저장 위치 규칙에 맞는 URL (예전 규칙의 URL이면 새 위치의 URL, 이미 맞거나 이 저장소의 URL이 아니면 그대로)
+     */
+    String canonicalUrl(String imageUrl);
+}
@@ -0,0 +1,394 @@
+package org.likelion.hsu.recipememo.Storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 파일시스템 이미지 저장소 (upload.path 디렉터리, 기본값 uploads/)
+ *
+ * 저장 과정:
+ * 1. 업로드 디렉터리 안에 임시 파일을 만들고 MultipartFile.transferTo(File)로 넘겨받는다.
+ *    서블릿 컨테이너가 디스크에 임시 저장해 둔 파일은 복사 대신 rename으로 옮겨진다. (요청 스레드에서 바이트를 다시 복사하지 않음)
+ * 2. FileChannel로 한 번 읽어 SHA-256을 계산하고, "{해시 앞 2글자}/{다음 2글자}/{해시}.{확장자}" 위치로 원자적으로 rename 한다.
+ *    (한 디렉터리에 파일이 수십만 개 쌓이면 이름 조회와 백업이 느려지므로 65,536개 하위 디렉터리에 고르게 나눔)
+ * 3. 같은 해시 파일이 이미 있으면 임시 파일만 지우고 기존 파일을 재사용한다. (동일 이미지 중복 저장 방지)
+ *    이때 기존 파일의 수정 시각을 지금으로 갱신해, 정리 작업이 아직 커밋 전인 레시피가 쓸 파일을 지우지 않게 한다. (lastStored())
+ *
+ * 예전 평면 구조("/uploads/{이름}")의 URL은 moveFlatFiles()로 파일을 옮긴 뒤에도 새 위치에서 찾아 응답하고,
+ * 반대로 새 URL도 아직 옮기지 않은 평면 위치의 파일을 찾는다. (옮기는 동안에도 두 형식 모두 동작)
+ */
+@Component
+@Slf4j
+public class LocalImageStorage implements ImageStorage {
+
+    static final String URL_PREFIX = "/uploads/";
+
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    private static final Pattern HEX_PREFIX = Pattern.compile("[0-9a-f]{4}");
+
+    private final Path root;
+
+    public LocalImageStorage(@Value("${upload.path:uploads/}") String uploadPath) throws IOException {
+        this.root = Paths.get(uploadPath).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+    }
+
+    @Override
+    public StoredImage store(MultipartFile file) throws IOException {
+        Path temp = Files.createTempFile(root, "upload-", ".tmp"); // 같은 디렉터리 → 이후 rename이 복사 없이 끝남
+        try {
+            file.transferTo(temp.toFile()); // 절대 경로 File을 넘겨야 컨테이너의 임시 파일이 rename 됨
+
+            String fileName = sha256(temp) + extensionOf(file.getOriginalFilename());
+            String relative = shardedName(fileName);
+            Path target = root.resolve(relative);
+            for (Path existing : List.of(target, root.resolve(fileName))) { // 아직 옮기지 않은 평면 위치의 같은 파일도 재사용
+                if (touch(existing)) {
+                    log.debug("동일한 이미지가 이미 있어 재사용: {}", fileName);
+                    return new StoredImage(URL_PREFIX + relative, false);
+                }
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 같은 이미지가 동시에 업로드된 경우 - 먼저 옮겨진 파일을 그대로 사용
+                return new StoredImage(URL_PREFIX + relative, false);
+            }
+            return new StoredImage(URL_PREFIX + relative, true);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void delete(String imageUrl) throws IOException {
+        for (String alias : aliases(imageUrl)) { // 옮기는 도중이면 평면 위치와 새 위치에 모두 있을 수 있음
+            Path file = resolve(alias);
+            if (file == null || !Files.isDirectory(file.getParent())) {
+                continue;
+            }
+            if (Files.deleteIfExists(file)) {
+                log.info("이미지 삭제: {}", alias);
+            }
+            // 같은 이름으로 시작하는 파생 이미지({이름}_thumb.jpg 등)도 함께 삭제
+            try (DirectoryStream<Path> variants = Files.newDirectoryStream(file.getParent(), baseName(file.getFileName().toString()) + "_*")) {
+                for (Path variant : variants) {
+                    Files.deleteIfExists(variant);
+                }
+            }
+        }
+    }
+
+    @Override
+    public InputStream open(String imageUrl) throws IOException {
+        Path file = find(imageUrl);
+        if (file == null) {
+            throw new NoSuchFileException(imageUrl);
+        }
+        return Files.newInputStream(file);
+    }
+
+    @Override
+    public Path locate(String imageUrl) {
+        Path file = find(imageUrl);
+        return file != null && Files.isRegularFile(file) ? file : null;
+    }
+
+    @Override
+    public boolean exists(String imageUrl) {
+        Path file = find(imageUrl);
+        return file != null && Files.exists(file);
+    }
+
+    @Override
+    public String variantUrl(String imageUrl, String variant) {
+        int slash = imageUrl.lastIndexOf('/');
+        int dot = imageUrl.lastIndexOf('.');
+        String base = dot > slash ? imageUrl.substring(0, dot) : imageUrl;
+        return base + "_" + variant + ".jpg";
+    }
+
+    @Override
+    public void write(String imageUrl, byte[] data) throws IOException {
+        Path target = resolve(imageUrl);
+        if (target == null) {
+            throw new IllegalArgumentException("업로드 디렉터리 밖의 경로입니다: " + imageUrl);
+        }
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "variant-", ".tmp");
+        try {
+            Files.write(temp, data);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE); // 읽는 쪽에서 반쯤 쓰인 파일을 보지 않도록
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Instant lastStored(String imageUrl) throws IOException {
+        Path file = find(imageUrl);
+        if (file == null) {
+            return null;
+        }
+        try {
+            return Files.getLastModifiedTime(file).toInstant();
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Stream<String> listImages(Instant modifiedBefore) throws IOException {
+        return Files.walk(root)
+                .filter(Files::isDirectory)
+                .flatMap(directory -> imagesIn(directory, modifiedBefore).stream());
+    }
+
+    // 디렉터리 하나의 원본 이미지 URL - 같은 디렉터리에 "{이름}.*" 파일이 있는 "{이름}_{variant}.jpg"는 파생 이미지로 보고 제외
+    // (예전 "UUID_원본이름" 파일은 앞부분과 같은 이름의 파일이 없으므로 원본으로 분류됨)
+    private List<String> imagesIn(Path directory, Instant modifiedBefore) {
+        List<Path> files = new ArrayList<>();
+        Set<String> baseNames = new HashSet<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+            for (Path file : entries) {
+                String name = file.getFileName().toString();
+                if (!name.endsWith(".tmp")) { // store()/write()가 쓰는 중인 임시 파일
+                    files.add(file);
+                    baseNames.add(baseName(name));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<String> urls = new ArrayList<>();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            String base = baseName(name);
+            int underscore = base.lastIndexOf('_');
+            if (name.endsWith(".jpg") && underscore > 0 && baseNames.contains(base.substring(0, underscore))) {
+                continue;
+            }
+            try {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(modifiedBefore)) {
+                    urls.add(URL_PREFIX + relativeOf(file));
+                }
+            } catch (NoSuchFileException e) {
+                // 목록을 만든 사이에 지워진 파일
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return urls;
+    }
+
+    @Override
+    public Set<String> aliases(String imageUrl) {
+        Path file = resolve(imageUrl);
+        String alternate = file != null ? alternateOf(relativeOf(file)) : null;
+        return alternate != null ? Set.of(imageUrl, URL_PREFIX + alternate) : Set.of(imageUrl);
+    }
+
+    @Override
+    public String canonicalUrl(String imageUrl) {
+        Path file = resolve(imageUrl);
+        if (file == null || !file.getParent().equals(root)) {
+            return imageUrl;
+        }
+        return URL_PREFIX + shardedName(file.getFileName().toString());
+    }
+
+    /**
+     * 예전 평면 구조(업로드 디렉터리 바로 아래)의 파일을 하위 디렉터리 구조로 옮긴다. (이미 옮긴 파일은 건너뛰므로 여러 번 실행해도 안전)
+     * 같은 파일시스템 안의 rename이라 파일 하나당 비용은 작지만, 수십만 건이면 디렉터리 갱신 대기가 쌓이므로 threads개 스레드로 나눠 처리한다.
+     *
+     * @return 옮긴 파일 수
+     */
+    public int moveFlatFiles(int threads) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(root, Files::isRegularFile)) {
+            for (Path file : entries) {
+                if (!file.getFileName().toString().endsWith(".tmp")) {
+                    files.add(file);
+                }
+            }
+        }
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.submit(() -> files.parallelStream().mapToInt(this::moveToShard).sum()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("이미지 이동이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private int moveToShard(Path file) {
+        Path target = root.resolve(shardedName(file.getFileName().toString()));
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(file, target, StandardCopyOption.ATOMIC_MOVE); // 이름이 같으면 내용도 같으므로 대상이 있어도 덮어씀
+            return 1;
+        } catch (NoSuchFileException e) {
+            return 0; // 그 사이 삭제된 파일
+        } catch (IOException e) {
+            log.warn("이미지 이동 실패: {} ({})", file.getFileName(), e.getMessage());
+            return 0;
+        }
+    }
+
+    // 재사용하는 파일의 수정 시각을 지금으로 갱신 (파일이 없으면 false - 그 사이 정리 작업이 지운 경우 새로 저장)
+    private static boolean touch(Path file) throws IOException {
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    // URL이 가리키는 파일 - 그 위치에 없으면 다른 저장 구조의 위치(평면 ↔ 하위 디렉터리)에서 찾음
+    private Path find(String imageUrl) {
+        Path file = resolve(imageUrl);
+        if (file == null || Files.exists(file)) {
+            return file;
+        }
+        String alternate = alternateOf(relativeOf(file));
+        if (alternate != null) {
+            Path other = root.resolve(alternate);
+            if (Files.exists(other)) {
+                return other;
+            }
+        }
+        return file;
+    }
+
+    // /uploads/... URL을 업로드 디렉터리 안의 실제 경로로 변환 (디렉터리 밖을 가리키면 null)
+    private Path resolve(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        Path file;
+        try {
+            file = root.resolve(imageUrl.substring(URL_PREFIX.length())).normalize();
+        } catch (InvalidPathException e) { // 디코딩된 요청 경로의 NUL 문자 등
+            return null;
+        }
+        return file.startsWith(root) && !file.equals(root) ? file : null;
+    }
+
+    // 업로드 디렉터리 기준 상대 경로 ("/" 구분)
+    private String relativeOf(Path file) {
+        return root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+    }
+
+    // 같은 파일의 다른 저장 구조 경로 ("x.jpg" ↔ "ab/cd/x.jpg", 둘 다 아니면 null)
+    private static String alternateOf(String relative) {
+        int slash = relative.lastIndexOf('/');
+        if (slash < 0) {
+            return shardedName(relative);
+        }
+        String fileName = relative.substring(slash + 1);
+        return relative.equals(shardedName(fileName)) ? fileName : null;
+    }
+
+    // "abcdef….jpg" → "ab/cd/abcdef….jpg"
+    // 이름이 16진수로 시작하지 않는 예전 파일은 첫 '_'/'.' 앞부분의 해시로 나눈다. (원본과 파생 이미지가 같은 디렉터리에 모이도록)
+    static String shardedName(String fileName) {
+        String key = HEX_PREFIX.matcher(fileName).lookingAt() ? fileName : sha256(stemOf(fileName));
+        return key.substring(0, 2) + "/" + key.substring(2, 4) + "/" + fileName;
+    }
+
+    // 첫 '_' 또는 '.' 앞부분 ("사진_thumb.jpg" → "사진")
+    private static String stemOf(String fileName) {
+        for (int i = 0; i < fileName.length(); i++) {
+            char c = fileName.charAt(i);
+            if (c == '_' || c == '.') {
+                return fileName.substring(0, i);
+            }
+        }
+        return fileName;
+    }
+
+    // 확장자를 뗀 파일 이름 ("abc.jpg" → "abc")
+    private static String baseName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+    // FileChannel + direct buffer로 파일을 한 번만 읽어 SHA-256 계산
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest = sha256Digest();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String sha256(String value) {
+        return HexFormat.of().formatHex(sha256Digest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 원본 파일명에서 확장자만 안전하게 추출 ("사진.JPG" → ".jpg", 이상한 값이면 "")
+    private static String extensionOf(String originalFilename) {
+        if (originalFilename == null) {
+            return "";
+        }
+        int dot = originalFilename.lastIndexOf('.');
+        if (dot < 0) {
+            return "";
+        }
+        String extension = originalFilename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return extension.matches("[a-z0-9]{1,5}") ? "." + extension : "";
+    }
+}
@@ -0,0 +1,14 @@
+package org.likelion.hsu.recipememo.Storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ImageStorage.store()의 결과
+ */
+@Getter
+@AllArgsConstructor
+public class StoredImage {
+    private final String url; // 클라이언트가 접근할 공개 URL
+    private final boolean created; // 새로 쓴 파일이면 true, 같은 내용의 기존 파일을 재사용했으면 false
+}
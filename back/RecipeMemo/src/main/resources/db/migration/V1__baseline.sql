@@ -0,0 +1,67 @@
+-- 레시피 스키마 기준 버전 (엔티티 매핑과 같은 구조)
+-- PostgreSQL과 H2(개발/테스트) 모두에서 실행되는 문법만 사용한다.
+-- ddl-auto=update로 이미 만들어진 운영 DB에도 적용할 수 있도록 모든 문장은 IF NOT EXISTS 로 작성한다.
+-- (비어 있지 않은 DB는 baseline-version=0 으로 기준선을 잡은 뒤 이 파일부터 실행됨 - application-prod.properties)
+
+create sequence if not exists recipe_seq start with 1 increment by 50;
+
+create table if not exists recipe (
+    id            bigint       not null,
+    version       bigint,
+    title         varchar(255),
+    category      varchar(255),
+    cooking_time  varchar(255),
+    difficulty    varchar(255),
+    content       varchar(255),
+    image_url     varchar(255),
+    thumbnail_url varchar(255),
+    medium_url    varchar(255),
+    firebase_uid  varchar(255) not null,
+    updated_at    timestamp,
+    primary key (id)
+);
+
+-- ddl-auto=update 시절에 나중에 추가된 컬럼
+alter table recipe add column if not exists version bigint;
+alter table recipe add column if not exists thumbnail_url varchar(255);
+alter table recipe add column if not exists medium_url varchar(255);
+alter table recipe add column if not exists updated_at timestamp;
+
+create index if not exists idx_recipe_category_id on recipe (category, id);
+create index if not exists idx_recipe_firebase_uid_id on recipe (firebase_uid, id);
+create index if not exists idx_recipe_image_url on recipe (image_url);
+
+-- 순서 컬럼은 기본키의 일부지만, 예전 행은 값이 비어 있을 수 있어 기존 테이블에는 nullable로 추가한다. (V2에서 채움)
+create table if not exists recipe_ingredients (
+    recipe_id         bigint  not null references recipe (id),
+    ingredients       varchar(255),
+    ingredients_order integer not null,
+    primary key (recipe_id, ingredients_order)
+);
+alter table recipe_ingredients add column if not exists ingredients_order integer;
+
+create table if not exists recipe_steps (
+    recipe_id   bigint  not null references recipe (id),
+    steps       varchar(255),
+    steps_order integer not null,
+    primary key (recipe_id, steps_order)
+);
+alter table recipe_steps add column if not exists steps_order integer;
+
+create table if not exists category_stat (
+    category     varchar(255) not null,
+    recipe_count bigint       not null,
+    primary key (category)
+);
+
+create table if not exists image_cleanup_outbox (
+    id              bigint generated by default as identity,
+    image_url       varchar(255) not null,
+    created_at      timestamp    not null,
+    next_attempt_at timestamp    not null,
+    attempts        integer      not null,
+    last_error      varchar(500),
+    primary key (id)
+);
+
+create index if not exists idx_image_cleanup_next_attempt on image_cleanup_outbox (next_attempt_at);
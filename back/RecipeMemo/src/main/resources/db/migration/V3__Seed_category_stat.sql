@@ -0,0 +1,12 @@
+-- 카테고리별 레시피 개수 행을 미리 만들어 둔다. (Category enum의 모든 값)
+-- 서버가 요청을 받기 전에 행이 있어야 레시피 생성/삭제 트랜잭션의 증감(addCount)이 빠지지 않는다.
+-- 이미 있는 행은 건드리지 않으므로 운영 중인 개수는 그대로 유지된다.
+-- Category에 값을 추가하면 같은 형식의 마이그레이션을 새 버전으로 추가한다.
+
+insert into category_stat (category, recipe_count)
+select c.category, (select count(*) from recipe r where r.category = c.category)
+from (select 'KOREAN' as category
+      union all select 'JAPANESE'
+      union all select 'CHINESE'
+      union all select 'WESTERN') c
+where not exists (select 1 from category_stat s where s.category = c.category);
@@ -0,0 +1,37 @@
+package org.likelion.hsu.recipememo.Config;
+
+import org.junit.jupiter.api.Test;
+import org.likelion.hsu.recipememo.Controller.ApiEndpointCatalog;
+import org.likelion.hsu.recipememo.Controller.HealthController;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * faststart 프로필(지연 초기화 + 자동 설정 제외)로도 기동되고,
+ * 헬스체크는 시작 시점에, 엔드포인트 목록은 첫 조회 때 만들어지는지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:faststart;DB_CLOSE_DELAY=-1",
+        "recipe.scheduling.enabled=false"
+})
+@ActiveProfiles("faststart")
+class FastStartProfileTest {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    void healthCheckIsEagerAndEndpointCatalogIsLazy() {
+        assertThat(beanFactory.containsSingleton("healthController")).isTrue();
+        assertThat(beanFactory.containsSingleton("apiEndpointCatalog")).isFalse();
+
+        Object endpoints = beanFactory.getBean(HealthController.class).availableEndpoints().getBody();
+        assertThat(endpoints).isNotNull();
+        assertThat(beanFactory.containsSingleton("apiEndpointCatalog")).isTrue();
+        assertThat(beanFactory.getBean(ApiEndpointCatalog.class).getHealthEndpoints()).containsKey("GET /api/health");
+    }
+}
@@ -0,0 +1,66 @@
+package org.likelion.hsu.recipememo.Config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 라우팅 테스트 - 내장 H2 두 개를 primary/복제본으로 사용
+ * 각 DB에 서로 다른 값을 넣어 두고, 어느 쪽에서 읽었는지로 라우팅을 확인한다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndOthersToPrimary() {
+        DataSource primary = h2("routing-primary", "primary");
+        DataSource replica = h2("routing-replica", "replica");
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+
+        assertThat(readSource(routing, true)).isEqualTo("replica");
+        assertThat(readSource(routing, false)).isEqualTo("primary");
+        assertThat(new JdbcTemplate(routing).queryForObject("select name from source", String.class))
+                .isEqualTo("primary"); // 트랜잭션 밖의 조회
+    }
+
+    @Test
+    void cacheFillingReadsGoToPrimaryEvenWhenReadOnly() throws Exception {
+        DataSource primary = h2("cache-fill-primary", "primary");
+        DataSource replica = h2("cache-fill-replica", "replica");
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+
+        assertThat(ReplicaRoutingDataSource.readFromPrimary(() -> readSource(routing, true))).isEqualTo("primary");
+        assertThat(readSource(routing, true)).isEqualTo("replica"); // 끝나면 다시 복제본
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsUnavailable() {
+        DataSource primary = h2("fallback-primary", "primary");
+        DataSource missingReplica = new DriverManagerDataSource("jdbc:h2:mem:missing-replica;IFEXISTS=TRUE", "sa", "");
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, missingReplica));
+
+        assertThat(readSource(routing, true)).isEqualTo("primary");
+    }
+
+    private String readSource(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select name from source", String.class));
+    }
+
+    private DataSource h2(String database, String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists source (name varchar(20))");
+        jdbcTemplate.update("delete from source");
+        jdbcTemplate.update("insert into source (name) values (?)", name);
+        return dataSource;
+    }
+}
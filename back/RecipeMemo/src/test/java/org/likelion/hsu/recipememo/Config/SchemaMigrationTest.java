@@ -0,0 +1,56 @@
+package org.likelion.hsu.recipememo.Config;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션이 엔티티 매핑과 같은 스키마를 만드는지 (ddl-auto=validate로 기동),
+ * ddl-auto=update 시절의 기존 DB에도 baseline 후 그대로 적용되는지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schema-migration;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class SchemaMigrationTest {
+
+    @Test
+    void migrationsMatchEntityMappings() {
+        // 매핑과 다르면 컨텍스트 기동 단계에서 SchemaManagementException으로 실패
+    }
+
+    @Test
+    void legacyDatabaseIsBaselinedAndBackfilled() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:schema-legacy;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        // IDENTITY ID, version/순서 컬럼이 없던 시절의 테이블
+        jdbcTemplate.execute("create table recipe (id bigint generated by default as identity primary key, title varchar(255), " +
+                "category varchar(255), cooking_time varchar(255), difficulty varchar(255), content varchar(255), " +
+                "image_url varchar(255), firebase_uid varchar(255) not null)");
+        jdbcTemplate.execute("create table recipe_ingredients (recipe_id bigint not null references recipe (id), ingredients varchar(255))");
+        jdbcTemplate.execute("create table recipe_steps (recipe_id bigint not null references recipe (id), steps varchar(255))");
+        jdbcTemplate.update("insert into recipe (id, title, category, firebase_uid) values (70, '김치찌개', 'KOREAN', 'user-1')");
+        jdbcTemplate.update("insert into recipe_ingredients (recipe_id, ingredients) values (70, '김치'), (70, '두부'), (70, '대파')");
+        jdbcTemplate.update("insert into recipe_steps (recipe_id, steps) values (70, '끓이기')");
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+
+        assertThat(jdbcTemplate.queryForObject("select version from recipe where id = 70", Long.class)).isZero();
+        List<String> ingredients = jdbcTemplate.queryForList(
+                "select ingredients from recipe_ingredients where recipe_id = 70 order by ingredients_order", String.class);
+        assertThat(ingredients).containsExactly("김치", "두부", "대파");
+        assertThat(jdbcTemplate.queryForObject("select steps_order from recipe_steps where recipe_id = 70", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("select next value for recipe_seq", Long.class)).isGreaterThan(70L);
+    }
+}
@@ -0,0 +1,108 @@
+package org.likelion.hsu.recipememo.Controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.likelion.hsu.recipememo.Storage.LocalImageStorage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ImageControllerTest {
+
+    private static final String URL = "/uploads/abc123.jpg";
+    private static final String LEGACY_NAME = "3f2a9c1e-0000-4000-8000-000000000000_김치 찌개.png"; // 예전 업로드: UUID_원본파일명
+
+    @TempDir
+    Path uploadDir;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.write(uploadDir.resolve("abc123.jpg"), "0123456789".getBytes(StandardCharsets.US_ASCII));
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new ImageController(new LocalImageStorage(uploadDir.toString())))
+                .build();
+    }
+
+    @Test
+    void servesWholeFileWithImmutableCacheHeaders() throws Exception {
+        mockMvc.perform(get(URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123.jpg\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, ImageController.CACHE_CONTROL))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/jpeg"))
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    void servesSingleByteRange() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().string("2345"));
+
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("789"));
+    }
+
+    @Test
+    void ignoresRangeWhenIfRangeDoesNotMatch() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=2-5").header(HttpHeaders.IF_RANGE, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    void rejectsUnsatisfiableRange() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=20-30"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    void answersNotModifiedForMatchingETag() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, "\"abc123.jpg\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void servesLegacyFileWithPercentEncodedName() throws Exception {
+        Files.write(uploadDir.resolve(LEGACY_NAME), "legacy".getBytes(StandardCharsets.US_ASCII));
+
+        // URI 템플릿 변수는 퍼센트 인코딩되어 요청됨 (/uploads/3f2a...%EA%B9%80%EC%B9%98%20%EC%B0%8C%EA%B0%9C.png)
+        mockMvc.perform(get("/uploads/{name}", LEGACY_NAME))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andExpect(content().string("legacy"));
+        // 하위 디렉터리 구조 URL로도 같은 파일
+        mockMvc.perform(get("/uploads/3f/2a/{name}", LEGACY_NAME))
+                .andExpect(status().isOk())
+                .andExpect(content().string("legacy"));
+    }
+
+    @Test
+    void rejectsEncodedPathOutsideUploadDirectory() throws Exception {
+        // 디코딩하면 /uploads/../../etc/hosts → 업로드 디렉터리 밖이므로 저장소가 찾지 않음
+        mockMvc.perform(get(URI.create("/uploads/%2e%2e/%2e%2e/etc/hosts"))).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void returnsNotFoundForMissingFile() throws Exception {
+        mockMvc.perform(get("/uploads/missing.jpg")).andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,198 @@
+package org.likelion.hsu.recipememo.Controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.likelion.hsu.recipememo.Config.CategoryConverter;
+import org.likelion.hsu.recipememo.Config.VaryAcceptAdvice;
+import org.likelion.hsu.recipememo.Dto.Request.RecipeRequestDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeCursorPageDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeListResponseDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeResponseDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeTitleResponseDto;
+import org.likelion.hsu.recipememo.Entity.Recipe;
+import org.likelion.hsu.recipememo.Enum.Category;
+import org.likelion.hsu.recipememo.Enum.InvalidCategoryException;
+import org.likelion.hsu.recipememo.Service.CategoryStatService;
+import org.likelion.hsu.recipememo.Service.RecipeBulkService;
+import org.likelion.hsu.recipememo.Service.RecipeNotFoundException;
+import org.likelion.hsu.recipememo.Service.RecipeService;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RecipeControllerTest {
+
+    private RecipeService recipeService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        recipeService = mock(RecipeService.class);
+        DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+        conversionService.addConverter(new CategoryConverter());
+
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new RecipeController(recipeService, mock(RecipeBulkService.class),
+                        mock(CategoryStatService.class), new ObjectMapper().readerFor(RecipeRequestDto.class)))
+                .setConversionService(conversionService)
+                .setControllerAdvice(new VaryAcceptAdvice())
+                .build();
+    }
+
+    @Test
+    void categoryPathAcceptsEnumAndDisplayNames() throws Exception {
+        when(recipeService.getTitlesByCategory(eq(Category.KOREAN), any(), anyInt()))
+                .thenReturn(new RecipeListResponseDto("한식", List.of(), null));
+
+        for (String category : List.of("KOREAN", "korean", "한식")) {
+            mockMvc.perform(get("/api/recipes/category/{category}", category))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.category").value("한식"));
+        }
+        verify(recipeService, times(3)).getTitlesByCategory(eq(Category.KOREAN), any(), anyInt());
+    }
+
+    @Test
+    void categoryListWithoutPagingParametersReturnsLegacyPage() throws Exception {
+        when(recipeService.getTitlesByCategory(eq(Category.KOREAN), any(), anyInt()))
+                .thenReturn(new RecipeListResponseDto("한식", List.of(), null));
+
+        mockMvc.perform(get("/api/recipes/category/{category}", "KOREAN")).andExpect(status().isOk());
+        verify(recipeService).getTitlesByCategory(Category.KOREAN, null, RecipeController.LEGACY_PAGE_SIZE);
+
+        mockMvc.perform(get("/api/recipes/category/{category}", "KOREAN").param("after", "1234")).andExpect(status().isOk());
+        verify(recipeService).getTitlesByCategory(Category.KOREAN, 1234L, 20);
+
+        mockMvc.perform(get("/api/recipes/category/{category}", "KOREAN").param("limit", "500")).andExpect(status().isOk());
+        verify(recipeService).getTitlesByCategory(Category.KOREAN, null, 100);
+    }
+
+    @Test
+    void userListWithoutPagingParametersReturnsLegacyPageWithoutCursorHeader() throws Exception {
+        when(recipeService.getRecipesByFirebaseUid(eq("user-1"), any(), anyInt()))
+                .thenReturn(new RecipeCursorPageDto(List.of(), null));
+
+        mockMvc.perform(get("/api/recipes/user/{firebaseUid}", "user-1"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(RecipeController.NEXT_CURSOR_HEADER));
+        verify(recipeService).getRecipesByFirebaseUid("user-1", null, RecipeController.LEGACY_PAGE_SIZE);
+
+        mockMvc.perform(get("/api/recipes/user/{firebaseUid}", "user-1").param("limit", "10")).andExpect(status().isOk());
+        verify(recipeService).getRecipesByFirebaseUid("user-1", null, 10);
+    }
+
+    @Test
+    void columnarFormatSendsOneArrayPerField() throws Exception {
+        when(recipeService.getTitlesByCategory(eq(Category.KOREAN), any(), anyInt()))
+                .thenReturn(new RecipeListResponseDto("한식", List.of(
+                        new RecipeTitleResponseDto(3L, "김치찌개", "/uploads/a.jpg", "/uploads/a_thumb.jpg", "/uploads/a_medium.jpg", null),
+                        new RecipeTitleResponseDto(2L, "비빔밥", "/uploads/b.jpg", null, null, null)), 2L));
+
+        mockMvc.perform(get("/api/recipes/category/{category}", "KOREAN").param("format", "columnar"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.category").value("한식"))
+                .andExpect(jsonPath("$.ids[0]").value(3))
+                .andExpect(jsonPath("$.ids[1]").value(2))
+                .andExpect(jsonPath("$.titles[1]").value("비빔밥"))
+                .andExpect(jsonPath("$.thumbnails[0]").value("/uploads/a_thumb.jpg"))
+                .andExpect(jsonPath("$.thumbnails[1]").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value(2))
+                .andExpect(jsonPath("$.recipes").doesNotExist());
+    }
+
+    @Test
+    void negotiatedResponsesVaryByAccept() throws Exception {
+        RecipeResponseDto recipe = new RecipeResponseDto();
+        recipe.setId(7L);
+        recipe.setTitle("김치찌개");
+        recipe.setCategory("한식");
+        when(recipeService.getRecipeById(7L)).thenReturn(recipe);
+        when(recipeService.getRecipeByCategoryAndId(Category.KOREAN, 7L)).thenReturn(recipe);
+        when(recipeService.countRecipesByFirebaseUid("user-1")).thenReturn(3L);
+
+        MvcResult detail = mockMvc.perform(get("/api/recipes/{id}", 7))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn();
+        mockMvc.perform(get("/api/recipes/{id}", 7).header(HttpHeaders.IF_NONE_MATCH, detail.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+        mockMvc.perform(get("/api/recipes/category/{category}/{id}", "KOREAN", 7))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+        mockMvc.perform(get("/api/recipes/user/{firebaseUid}/count", "user-1")) // 검증자가 없는 응답도
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+
+    @Test
+    void unknownCategoryIsBadRequestWithoutCallingService() throws Exception {
+        mockMvc.perform(get("/api/recipes/category/{category}", "pizza"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/recipes/category/{category}/{id}", "pizza", 1))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(recipeService);
+    }
+
+    @Test
+    void bodyCategoryMustBeDisplayName() throws Exception {
+        // 서비스가 실제로 하는 것처럼 본문의 카테고리를 한글 이름으로만 변환
+        when(recipeService.patchRecipe(eq(7L), any()))
+                .thenAnswer(invocation -> Category.fromDisplayName("KOREAN"));
+
+        mockMvc.perform(patch("/api/recipes/{id}", 7)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"category\": \"KOREAN\", \"version\": 3}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_CATEGORY"));
+
+        assertEquals(Category.KOREAN, Category.fromDisplayName("한식"));
+        assertThrows(InvalidCategoryException.class, () -> Category.fromDisplayName("korean"));
+        assertThrows(InvalidCategoryException.class, () -> Category.fromDisplayName(null));
+    }
+
+    @Test
+    void concurrentModificationIsConflict() throws Exception {
+        when(recipeService.patchRecipe(eq(7L), any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Recipe.class, 7L));
+
+        mockMvc.perform(patch("/api/recipes/{id}", 7)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"새 제목\", \"version\": 3}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("CONCURRENT_MODIFICATION"));
+    }
+
+    @Test
+    void missingRecipeIsNotFound() throws Exception {
+        when(recipeService.getRecipeById(404L)).thenThrow(new RecipeNotFoundException(404L));
+
+        mockMvc.perform(get("/api/recipes/{id}", 404))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("RECIPE_NOT_FOUND"));
+    }
+}
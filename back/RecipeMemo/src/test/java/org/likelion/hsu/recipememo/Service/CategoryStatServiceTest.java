@@ -0,0 +1,133 @@
+package org.likelion.hsu.recipememo.Service;
+
+import org.junit.jupiter.api.Test;
+import org.likelion.hsu.recipememo.Dto.Request.RecipeRequestDto;
+import org.likelion.hsu.recipememo.Dto.Response.CategorySummaryResponseDto;
+import org.likelion.hsu.recipememo.Dto.Response.HomeSummaryResponseDto;
+import org.likelion.hsu.recipememo.Enum.Category;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카테고리별 개수가 생성/카테고리 변경/삭제에 맞춰 증감하는지 확인
+ * (테스트 트랜잭션은 롤백되어 커밋 후 캐시 제거가 불리지 않으므로 캐시는 끈다)
+ */
+@SpringBootTest(properties = "spring.cache.type=none")
+@Transactional
+class CategoryStatServiceTest {
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private CategoryStatService categoryStatService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void countersFollowCreateMoveAndDelete() throws Exception {
+        Map<String, Long> before = counts();
+
+        Long id = recipeService.createRecipeWithImage(new RecipeRequestDto("요약 테스트 비빔밥", "한식", "20분", "쉬움",
+                Arrays.asList("밥", "나물"), "비빔밥", Arrays.asList("비빈다"), "stat-user"), null).getId();
+        assertThat(counts().get("KOREAN")).isEqualTo(before.get("KOREAN") + 1);
+
+        RecipeRequestDto move = new RecipeRequestDto();
+        move.setCategory("양식");
+        recipeService.patchRecipe(id, move);
+        assertThat(counts().get("KOREAN")).isEqualTo(before.get("KOREAN"));
+        assertThat(counts().get("WESTERN")).isEqualTo(before.get("WESTERN") + 1);
+
+        HomeSummaryResponseDto summary = categoryStatService.getSummary(1);
+        assertThat(summary.getCategories()).filteredOn(category -> category.getCode().equals("WESTERN"))
+                .singleElement()
+                .satisfies(category -> assertThat(category.getRecipes()).extracting("title").containsExactly("요약 테스트 비빔밥"));
+
+        recipeService.deleteRecipe(id);
+        assertThat(counts()).isEqualTo(before);
+    }
+
+    // 재계산은 통계 행을 먼저 잠그므로, 증감만 하고 아직 커밋하지 않은 생성 트랜잭션을 기다렸다가 그 레시피까지 센다.
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void recountWaitsForUncommittedIncrement() throws Exception {
+        categoryStatService.recount(); // 다른 테스트가 남긴 데이터와 상관없이 기준을 맞춤
+        Map<String, Long> before = counts();
+        CountDownLatch incremented = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Long> created = executor.submit(() -> transactionTemplate.execute(status -> {
+                try {
+                    Long id = recipeService.createRecipeWithImage(new RecipeRequestDto("재계산 테스트 김밥", "한식", "30분", "보통",
+                            Arrays.asList("김", "밥"), "김밥", Arrays.asList("만다"), "stat-user"), null).getId();
+                    incremented.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return id;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+            assertThat(incremented.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<?> recount = executor.submit(categoryStatService::recount);
+            Thread.sleep(200);
+            assertThat(recount.isDone()).isFalse();
+
+            release.countDown();
+            Long id = created.get(5, TimeUnit.SECONDS);
+            recount.get(5, TimeUnit.SECONDS);
+            assertThat(counts().get("KOREAN")).isEqualTo(before.get("KOREAN") + 1);
+
+            recipeService.deleteRecipe(id);
+            assertThat(counts()).isEqualTo(before);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    // 반대 방향으로 동시에 옮겨도 행 잠금 순서가 같아 교착 상태 없이 끝나고 개수도 그대로다.
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void oppositeMovesRunConcurrentlyWithoutDeadlock() throws Exception {
+        Map<String, Long> before = counts();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> forward = executor.submit(() -> moveBackAndForth(Category.KOREAN, Category.JAPANESE));
+            Future<?> backward = executor.submit(() -> moveBackAndForth(Category.JAPANESE, Category.KOREAN));
+            forward.get(30, TimeUnit.SECONDS);
+            backward.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(counts()).isEqualTo(before);
+    }
+
+    private void moveBackAndForth(Category from, Category to) {
+        for (int i = 0; i < 50; i++) {
+            transactionTemplate.executeWithoutResult(status -> categoryStatService.recordMoved(from, to));
+            transactionTemplate.executeWithoutResult(status -> categoryStatService.recordMoved(to, from));
+        }
+    }
+
+    private Map<String, Long> counts() {
+        return categoryStatService.getSummary(0).getCategories().stream()
+                .collect(Collectors.toMap(CategorySummaryResponseDto::getCode, CategorySummaryResponseDto::getCount));
+    }
+}
@@ -0,0 +1,160 @@
+package org.likelion.hsu.recipememo.Service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.likelion.hsu.recipememo.Dto.Request.RecipeRequestDto;
+import org.likelion.hsu.recipememo.Entity.ImageCleanupTask;
+import org.likelion.hsu.recipememo.Repository.ImageCleanupTaskRepository;
+import org.likelion.hsu.recipememo.Storage.ImageStorage;
+import org.likelion.hsu.recipememo.Storage.StoredImage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 레시피 삭제 시 파일은 요청 안에서 지워지지 않고 outbox를 거쳐 백그라운드에서 지워지는지 확인
+ * (drain/reconcile이 각자 트랜잭션을 커밋하므로 테스트 트랜잭션을 쓰지 않고, 스케줄러는 꺼서 직접 호출한다)
+ * 방금 저장된 파일은 grace-period 동안 지우지 않으므로, 지워져야 하는 파일은 수정 시각을 과거로 돌린 뒤 drain 한다.
+ */
+@SpringBootTest(properties = {"recipe.scheduling.enabled=false", "image.cleanup.grace-period=1h"})
+class ImageCleanupOutboxTest {
+
+    @TempDir
+    static Path uploadDir;
+
+    @DynamicPropertySource
+    static void uploadPath(DynamicPropertyRegistry registry) {
+        registry.add("upload.path", () -> uploadDir.toString());
+    }
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private ImageCleanupOutbox imageCleanupOutbox;
+
+    @Autowired
+    private OrphanImageReconciler orphanImageReconciler;
+
+    @Autowired
+    private ImageCleanupTaskRepository taskRepository;
+
+    @Autowired
+    private ImageStorage imageStorage;
+
+    @Test
+    void deletedRecipeImageIsRemovedByWorkerNotByRequest() throws Exception {
+        Long id = create("outbox-delete", "삭제될 사진");
+        Path file = fileOf(recipeService.getRecipeById(id).getImageUrl());
+
+        recipeService.deleteRecipe(id);
+        assertThat(file).exists(); // 요청 안에서는 outbox에 넣기만 함
+        assertThat(taskRepository.count()).isEqualTo(1);
+
+        age(file);
+        imageCleanupOutbox.drain();
+        assertThat(file).doesNotExist();
+        assertThat(taskRepository.count()).isZero();
+    }
+
+    @Test
+    void sharedImageIsKeptWhileAnotherRecipeUsesIt() throws Exception {
+        Long first = create("outbox-shared", "같은 사진");
+        Long second = create("outbox-shared", "같은 사진");
+        Path file = fileOf(recipeService.getRecipeById(first).getImageUrl());
+
+        age(file);
+
+        recipeService.deleteRecipe(first);
+        imageCleanupOutbox.drain();
+        assertThat(file).exists();
+
+        recipeService.deleteRecipe(second);
+        imageCleanupOutbox.drain();
+        imageCleanupOutbox.drain(); // 이미 지운 파일을 다시 처리해도 문제 없음
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void reconcilerQueuesOnlyOldUnreferencedFiles() throws Exception {
+        Long id = create("outbox-live", "살아 있는 사진");
+        Path live = fileOf(recipeService.getRecipeById(id).getImageUrl());
+        Path orphan = Files.writeString(uploadDir.resolve("orphan.png"), "orphan");
+        Path recent = Files.writeString(uploadDir.resolve("recent.png"), "recent");
+        FileTime old = FileTime.from(Instant.now().minus(2, ChronoUnit.DAYS));
+        Files.setLastModifiedTime(live, old);
+        Files.setLastModifiedTime(orphan, old);
+
+        assertThat(orphanImageReconciler.reconcile()).isEqualTo(1);
+        imageCleanupOutbox.drain();
+
+        assertThat(orphan).doesNotExist();
+        assertThat(live).exists();
+        assertThat(recent).exists(); // 유예 시간 안의 파일은 아직 커밋 전인 업로드일 수 있음
+        recipeService.deleteRecipe(id);
+        imageCleanupOutbox.drain();
+        assertThat(live).doesNotExist();
+    }
+
+    @Test
+    void imageReusedWhileCleanupIsPendingIsKept() throws Exception {
+        Long first = create("outbox-reuse", "다시 올린 사진");
+        Path file = fileOf(recipeService.getRecipeById(first).getImageUrl());
+        recipeService.deleteRecipe(first);
+        age(file);
+
+        // 정리 작업이 대기 중일 때 같은 사진이 다시 업로드됨 - 파일은 재사용되고 레시피는 아직 커밋 전
+        StoredImage reused = imageStorage.store(image("다시 올린 사진"));
+        assertThat(reused.isCreated()).isFalse();
+        assertThat(fileOf(reused.getUrl())).isEqualTo(file);
+
+        imageCleanupOutbox.drain(); // 참조하는 레시피는 아직 보이지 않지만 방금 재사용된 파일이라 미룸
+        assertThat(file).exists();
+        assertThat(taskRepository.count()).isEqualTo(1);
+
+        Long second = create("outbox-reuse", "다시 올린 사진"); // 레시피 커밋
+        List<ImageCleanupTask> pending = taskRepository.findAll();
+        pending.forEach(task -> task.postpone(Instant.now())); // grace-period 가 지난 것처럼 바로 차례가 되게 함
+        taskRepository.saveAll(pending);
+        age(file);
+        imageCleanupOutbox.drain(); // 다시 차례가 되면 참조 여부부터 확인
+        assertThat(file).exists();
+        assertThat(taskRepository.count()).isZero();
+
+        recipeService.deleteRecipe(second);
+        age(file);
+        imageCleanupOutbox.drain();
+        assertThat(file).doesNotExist();
+    }
+
+    private Long create(String uid, String imageContent) throws Exception {
+        return recipeService.createRecipeWithImage(new RecipeRequestDto("정리 테스트", "한식", "10분", "쉬움",
+                Arrays.asList("밥"), "내용", Arrays.asList("과정"), uid), image(imageContent)).getId();
+    }
+
+    private MockMultipartFile image(String imageContent) {
+        return new MockMultipartFile("image", "photo.png", "image/png", imageContent.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // grace-period 보다 오래전에 저장된 파일로 만듦
+    private static void age(Path file) throws Exception {
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(2, ChronoUnit.HOURS)));
+    }
+
+    private Path fileOf(String imageUrl) {
+        return uploadDir.resolve(imageUrl.substring("/uploads/".length()));
+    }
+}
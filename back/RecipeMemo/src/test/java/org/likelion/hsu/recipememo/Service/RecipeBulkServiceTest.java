@@ -0,0 +1,90 @@
+package org.likelion.hsu.recipememo.Service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeImportResponseDto;
+import org.likelion.hsu.recipememo.Entity.Recipe;
+import org.likelion.hsu.recipememo.Repository.RecipeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NDJSON 대량 가져오기/내보내기 테스트 (배치마다 실제로 커밋되므로 테스트 후 직접 삭제)
+ */
+@SpringBootTest(properties = "recipe.import.batch-size=2")
+class RecipeBulkServiceTest {
+
+    private static final String NDJSON = String.join("\n",
+            "{\"title\":\"대량 잡채\",\"category\":\"한식\",\"ingredients\":[\"당면\",\"시금치\"],\"steps\":[\"삶는다\",\"볶는다\"],\"firebaseUid\":\"bulk-user\"}",
+            "{\"title\":\"대량 우동\",\"category\":\"일식\",\"ingredients\":[\"면\"],\"steps\":[\"끓인다\"],\"firebaseUid\":\"bulk-user\",\"id\":999}",
+            "",
+            "{\"title\":\"대량 떡볶이\",\"category\":\"분식\",\"firebaseUid\":\"bulk-user\"}",
+            "{not json",
+            "{\"title\":\"대량 탕수육\",\"category\":\"중식\",\"ingredients\":[\"돼지고기\",\"돼지고기\"],\"steps\":[],\"firebaseUid\":\"bulk-user\"}");
+
+    @Autowired
+    private RecipeBulkService recipeBulkService;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @AfterEach
+    void tearDown() {
+        recipeService.getRecipesByFirebaseUid("bulk-user", null, 100).getRecipes()
+                .forEach(recipe -> recipeService.deleteRecipe(recipe.getId()));
+    }
+
+    @Test
+    void importsValidLinesInBatchesAndReportsInvalidOnes() throws Exception {
+        RecipeImportResponseDto result = recipeBulkService.importRecipes(
+                new ByteArrayInputStream(NDJSON.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getErrors()).hasSize(2);
+        assertThat(result.getErrors().get(0)).startsWith("4번째 줄");
+        assertThat(result.getErrors().get(1)).startsWith("5번째 줄");
+
+        List<Recipe> saved = recipeRepository.findAll().stream()
+                .filter(recipe -> "bulk-user".equals(recipe.getFirebaseUid()))
+                .collect(Collectors.toList());
+        assertThat(saved).extracting(Recipe::getTitle).containsExactlyInAnyOrder("대량 잡채", "대량 우동", "대량 탕수육");
+        assertThat(saved).extracting(Recipe::getId).doesNotContain(999L);
+
+        // 커밋 후 검색 색인에도 반영됨
+        assertThat(recipeService.searchRecipes("잡채", EnumSet.of(RecipeSearchIndex.Field.TITLE), 0, 20).getResults())
+                .extracting("title").containsExactly("대량 잡채");
+    }
+
+    @Test
+    void exportWritesOneJsonLinePerRecipeThatCanBeImportedAgain() throws Exception {
+        recipeBulkService.importRecipes(new ByteArrayInputStream(NDJSON.getBytes(StandardCharsets.UTF_8)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recipeBulkService.exportRecipes(out);
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines()
+                .filter(line -> line.contains("\"bulk-user\""))
+                .collect(Collectors.toList());
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines).anySatisfy(line -> assertThat(line)
+                .contains("\"title\":\"대량 탕수육\"", "\"ingredients\":[\"돼지고기\",\"돼지고기\"]"));
+
+        RecipeImportResponseDto reimported = recipeBulkService.importRecipes(
+                new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)));
+        assertThat(reimported.getImported()).isEqualTo(3);
+        assertThat(reimported.getFailed()).isZero();
+    }
+}
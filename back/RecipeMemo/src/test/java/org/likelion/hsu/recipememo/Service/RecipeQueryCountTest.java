@@ -0,0 +1,246 @@
+package org.likelion.hsu.recipememo.Service;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.likelion.hsu.recipememo.Dto.Request.RecipeRequestDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeCursorPageDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeListResponseDto;
+import org.likelion.hsu.recipememo.Dto.Response.RecipeResponseDto;
+import org.likelion.hsu.recipememo.Entity.Recipe;
+import org.likelion.hsu.recipememo.Enum.Category;
+import org.likelion.hsu.recipememo.Repository.RecipeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 목록/상세 조회 시 실행되는 SQL 개수 회귀 테스트
+ * Hibernate 통계(generate_statistics)로 요청 하나당 준비된 statement 수를 센다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class RecipeQueryCountTest {
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private RecipeSearchIndex recipeSearchIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Long recipeId;
+
+    private final List<Long> indexedIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            recipeId = recipeRepository.save(Recipe.builder()
+                    .title("김치찌개 " + i)
+                    .category(Category.KOREAN)
+                    .cookingTime("30분")
+                    .difficulty("쉬움")
+                    .ingredients(Arrays.asList("김치", "돼지고기", "두부"))
+                    .content("얼큰한 김치찌개")
+                    .steps(Arrays.asList("김치를 볶는다", "물을 붓는다", "끓인다"))
+                    .firebaseUid("test-user")
+                    .build()).getId();
+            // 테스트 트랜잭션은 커밋되지 않으므로 검색 색인에는 직접 넣어 둔다
+            recipeSearchIndex.put(recipeId,
+                    RecipeSearchIndex.documentGrams("김치찌개 " + i, Arrays.asList("김치", "돼지고기", "두부"), "얼큰한 김치찌개"));
+            indexedIds.add(recipeId);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexedIds.forEach(recipeSearchIndex::remove);
+    }
+
+    @Test
+    void categoryListingRunsSingleProjectionQuery() {
+        assertThat(recipeService.getTitlesByCategory(Category.KOREAN, null, 3).getRecipes()).hasSize(3);
+
+        assertListQueryOnly();
+    }
+
+    @Test
+    void largeCategoryPageReturnsEveryRecipeInOneQuery() {
+        RecipeListResponseDto all = recipeService.getTitlesByCategory(Category.KOREAN, null, 1000);
+
+        assertThat(all.getRecipes()).hasSizeGreaterThanOrEqualTo(5);
+        assertThat(all.getNextCursor()).isNull();
+        assertListQueryOnly();
+    }
+
+    @Test
+    void titleSearchRunsSingleProjectionQuery() {
+        assertThat(recipeService.searchRecipes("김치", EnumSet.of(RecipeSearchIndex.Field.TITLE), 0, 20).getResults())
+                .hasSize(5);
+
+        assertListQueryOnly();
+    }
+
+    @Test
+    void userListingRunsSingleProjectionQuery() {
+        RecipeCursorPageDto page = recipeService.getRecipesByFirebaseUid("test-user", null, 3);
+
+        assertThat(page.getRecipes()).hasSize(3);
+        assertThat(page.getNextCursor()).isEqualTo(page.getRecipes().get(2).getId());
+        assertListQueryOnly();
+    }
+
+    @Test
+    void userListingContinuesFromCursor() {
+        RecipeCursorPageDto first = recipeService.getRecipesByFirebaseUid("test-user", null, 3);
+        RecipeCursorPageDto second = recipeService.getRecipesByFirebaseUid("test-user", first.getNextCursor(), 3);
+
+        assertThat(second.getRecipes()).hasSize(2);
+        assertThat(second.getRecipes().get(0).getId()).isLessThan(first.getNextCursor());
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(recipeService.countRecipesByFirebaseUid("test-user")).isEqualTo(5);
+    }
+
+    @Test
+    void detailByIdLoadsCollectionsInTwoRoundTrips() {
+        RecipeResponseDto recipe = recipeService.getRecipeById(recipeId);
+
+        assertThat(recipe.getIngredients()).containsExactly("김치", "돼지고기", "두부");
+        assertThat(recipe.getSteps()).containsExactly("김치를 볶는다", "물을 붓는다", "끓인다");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void detailByCategoryAndIdLoadsCollectionsInTwoRoundTrips() {
+        RecipeResponseDto recipe = recipeService.getRecipeByCategoryAndId(Category.KOREAN, recipeId);
+
+        assertThat(recipe.getIngredients()).hasSize(3);
+        assertThat(recipe.getSteps()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void titleOnlyUpdateDoesNotRewriteCollections() throws Exception {
+        RecipeRequestDto dto = new RecipeRequestDto("김치볶음밥", "한식", "30분", "쉬움",
+                Arrays.asList("김치", "돼지고기", "두부"), "얼큰한 김치찌개",
+                Arrays.asList("김치를 볶는다", "물을 붓는다", "끓인다"), "test-user");
+
+        RecipeResponseDto updated = recipeService.updateRecipe(recipeId, dto, null);
+
+        assertThat(updated.getTitle()).isEqualTo("김치볶음밥");
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionUpdateCount()).isZero();
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(statistics.getCollectionRemoveCount()).isZero();
+    }
+
+    @Test
+    void patchChangingOneIngredientUpdatesOnlyThatRow() {
+        RecipeRequestDto patch = new RecipeRequestDto();
+        patch.setIngredients(Arrays.asList("김치", "소고기", "두부"));
+
+        RecipeResponseDto patched = recipeService.patchRecipe(recipeId, patch);
+
+        assertThat(patched.getTitle()).isEqualTo("김치찌개 4"); // 보내지 않은 필드는 그대로
+        assertThat(patched.getIngredients()).containsExactly("김치", "소고기", "두부");
+        assertThat(patched.getSteps()).containsExactly("김치를 볶는다", "물을 붓는다", "끓인다");
+        assertThat(statistics.getCollectionUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        // 레시피 조회 1 + 재료 로딩 1 + 레시피 UPDATE(version) 1 + 바뀐 재료 한 행 UPDATE 1 + 응답용 과정 로딩 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    }
+
+    @Test
+    void patchWithUnchangedValuesKeepsVersionAndUpdatedAt() {
+        RecipeResponseDto before = recipeService.getRecipeById(recipeId);
+        entityManager.clear();
+        statistics.clear();
+
+        RecipeRequestDto patch = new RecipeRequestDto();
+        patch.setTitle(before.getTitle());
+        patch.setCategory("한식");
+        patch.setIngredients(before.getIngredients());
+
+        RecipeResponseDto patched = recipeService.patchRecipe(recipeId, patch);
+        entityManager.flush();
+
+        assertThat(patched.getVersion()).isEqualTo(before.getVersion());
+        assertThat(patched.getUpdatedAt()).isEqualTo(before.getUpdatedAt());
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getCollectionUpdateCount()).isZero();
+    }
+
+    @Test
+    void staleVersionIsRejected() {
+        RecipeRequestDto patch = new RecipeRequestDto();
+        patch.setTitle("먼저 수정");
+        Long version = recipeService.patchRecipe(recipeId, patch).getVersion();
+
+        RecipeRequestDto stale = new RecipeRequestDto();
+        stale.setTitle("늦은 수정");
+        stale.setVersion(version - 1);
+
+        assertThatThrownBy(() -> recipeService.patchRecipe(recipeId, stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void patchLoadedBeforeThumbnailUpdateKeepsVariantUrls() {
+        recipeRepository.findById(recipeId).orElseThrow().setImageUrl("/uploads/ab/cd/abcd.jpg");
+        entityManager.flush();
+        entityManager.clear();
+
+        // 수정 요청이 레시피를 읽은 뒤 썸네일 작업의 bulk update가 끼어듦 (영속성 컨텍스트의 엔티티는 thumbnailUrl = null 그대로)
+        Recipe stale = recipeRepository.findById(recipeId).orElseThrow();
+        assertThat(recipeRepository.updateImageVariants(recipeId, "/uploads/ab/cd/abcd.jpg",
+                "/uploads/ab/cd/abcd_thumb.jpg", "/uploads/ab/cd/abcd_medium.jpg", stale.getUpdatedAt())).isEqualTo(1);
+
+        RecipeRequestDto patch = new RecipeRequestDto();
+        patch.setTitle("늦게 도착한 수정");
+        patch.setVersion(stale.getVersion());
+        recipeService.patchRecipe(recipeId, patch);
+        entityManager.clear();
+
+        Recipe saved = recipeRepository.findById(recipeId).orElseThrow();
+        assertThat(saved.getTitle()).isEqualTo("늦게 도착한 수정");
+        assertThat(saved.getThumbnailUrl()).isEqualTo("/uploads/ab/cd/abcd_thumb.jpg");
+        assertThat(saved.getMediumUrl()).isEqualTo("/uploads/ab/cd/abcd_medium.jpg");
+    }
+
+    // 목록 조회는 SELECT 한 번으로 끝나야 하고, 엔티티나 컬렉션을 로딩하면 안 된다.
+    private void assertListQueryOnly() {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+}
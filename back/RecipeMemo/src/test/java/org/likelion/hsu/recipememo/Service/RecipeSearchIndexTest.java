@@ -0,0 +1,89 @@
+package org.likelion.hsu.recipememo.Service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecipeSearchIndexTest {
+
+    private RecipeSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RecipeSearchIndex(null);
+        index.put(1, RecipeSearchIndex.documentGrams("김치찌개", Arrays.asList("김치", "돼지고기"), "얼큰한 찌개"));
+        index.put(2, RecipeSearchIndex.documentGrams("된장찌개", Arrays.asList("된장", "두부"), "김치와 함께 먹으면 맛있다"));
+        index.put(3, RecipeSearchIndex.documentGrams("Tomato Pasta", Arrays.asList("토마토", "면"), "간단한 파스타"));
+    }
+
+    @Test
+    void matchesSubstringIgnoringCaseAndSpaces() {
+        assertThat(search("tomato pasta", EnumSet.of(RecipeSearchIndex.Field.TITLE)).getContent()).containsExactly(3L);
+        assertThat(search("김치 찌개", EnumSet.of(RecipeSearchIndex.Field.TITLE)).getContent()).containsExactly(1L);
+    }
+
+    @Test
+    void ranksTitleMatchesAboveContentMatches() {
+        Page<Long> hits = search("김치", EnumSet.allOf(RecipeSearchIndex.Field.class));
+
+        assertThat(hits.getContent()).containsExactly(1L, 2L);
+        assertThat(hits.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void searchesIngredientsSeparately() {
+        assertThat(search("두부", EnumSet.of(RecipeSearchIndex.Field.INGREDIENT)).getContent()).containsExactly(2L);
+        assertThat(search("두부", EnumSet.of(RecipeSearchIndex.Field.TITLE)).getContent()).isEmpty();
+        // 재료끼리는 이어서 색인하지 않음 ("김치" + "돼지고기" → "치돼" 는 없음)
+        assertThat(search("치돼", EnumSet.of(RecipeSearchIndex.Field.INGREDIENT)).getContent()).isEmpty();
+    }
+
+    @Test
+    void singleCharacterQueryUsesUnigrams() {
+        assertThat(search("면", EnumSet.of(RecipeSearchIndex.Field.INGREDIENT)).getContent()).containsExactly(3L);
+    }
+
+    @Test
+    void updateAndRemoveReplacePostings() {
+        index.put(1, RecipeSearchIndex.documentGrams("순두부찌개", Collections.singletonList("순두부"), ""));
+        assertThat(search("김치", EnumSet.of(RecipeSearchIndex.Field.TITLE)).getContent()).isEmpty();
+        assertThat(search("두부", EnumSet.allOf(RecipeSearchIndex.Field.class)).getContent()).containsExactly(1L, 2L);
+
+        index.remove(1);
+        assertThat(search("두부", EnumSet.allOf(RecipeSearchIndex.Field.class)).getContent()).containsExactly(2L);
+    }
+
+    @Test
+    void indexesIdsBeyondIntRange() {
+        long largeId = Integer.MAX_VALUE + 10L; // pooled 시퀀스로 도달할 수 있는 범위
+        index.put(largeId, RecipeSearchIndex.documentGrams("김치볶음밥", Collections.singletonList("김치"), ""));
+        assertThat(search("볶음밥", EnumSet.of(RecipeSearchIndex.Field.TITLE)).getContent()).containsExactly(largeId);
+        assertThat(search("김치", EnumSet.of(RecipeSearchIndex.Field.TITLE)).getContent()).containsExactly(largeId, 1L);
+
+        index.remove(largeId);
+        assertThat(search("볶음밥", EnumSet.of(RecipeSearchIndex.Field.TITLE)).getContent()).isEmpty();
+        assertThat(search("김치", EnumSet.of(RecipeSearchIndex.Field.TITLE)).getContent()).containsExactly(1L);
+    }
+
+    @Test
+    void pagesThroughRankedResults() {
+        Page<Long> first = index.search("찌개", EnumSet.allOf(RecipeSearchIndex.Field.class), PageRequest.of(0, 1));
+        Page<Long> second = index.search("찌개", EnumSet.allOf(RecipeSearchIndex.Field.class), PageRequest.of(1, 1));
+
+        assertThat(first.getContent()).containsExactly(1L); // 제목 + 내용 일치
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).containsExactly(2L);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    private Page<Long> search(String keyword, EnumSet<RecipeSearchIndex.Field> fields) {
+        return index.search(keyword, fields, PageRequest.of(0, 20));
+    }
+}
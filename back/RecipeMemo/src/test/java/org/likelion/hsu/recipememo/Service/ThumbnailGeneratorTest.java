@@ -0,0 +1,110 @@
+package org.likelion.hsu.recipememo.Service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.likelion.hsu.recipememo.Dto.Request.RecipeRequestDto;
+import org.likelion.hsu.recipememo.Entity.Recipe;
+import org.likelion.hsu.recipememo.Repository.RecipeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 썸네일 대기열이 가득 차면 요청 스레드에서 만들지 않고 건너뛰며, sweepMissing()이 나중에 다시 만들어 URL까지 기록하는지 확인
+ * (작업 스레드 1개, 대기열 1칸으로 줄이고 스케줄러는 꺼서 직접 호출한다)
+ */
+@SpringBootTest(properties = {
+        "recipe.scheduling.enabled=false",
+        "image.thumbnail.threads=1",
+        "image.thumbnail.queue-capacity=1"
+})
+class ThumbnailGeneratorTest {
+
+    @TempDir
+    static Path uploadDir;
+
+    @DynamicPropertySource
+    static void uploadPath(DynamicPropertyRegistry registry) {
+        registry.add("upload.path", () -> uploadDir.toString());
+    }
+
+    @Autowired
+    private ThumbnailGenerator thumbnailGenerator;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Test
+    void fullQueueSkipsWorkAndSweepRecoversIt() throws Exception {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(thumbnailGenerator, "executor");
+        CountDownLatch release = new CountDownLatch(1);
+        Long id;
+        try {
+            executor.execute(() -> await(release)); // 작업 스레드를 잡아 둠
+            executor.execute(() -> { });            // 대기열 1칸을 채움
+
+            id = recipeService.createRecipeWithImage(new RecipeRequestDto("썸네일 테스트", "한식", "10분", "쉬움",
+                    Arrays.asList("밥"), "내용", Arrays.asList("과정"), "thumbnail-user"), png()).getId();
+            assertThat(thumbnailOf(id)).isNull(); // 커밋 후 요청 스레드에서 만들지 않고 건너뜀
+        } finally {
+            release.countDown();
+        }
+        waitUntil(() -> executor.getActiveCount() == 0 && executor.getQueue().isEmpty());
+
+        waitUntil(() -> {
+            if (thumbnailOf(id) != null) {
+                return true;
+            }
+            thumbnailGenerator.sweepMissing();
+            return false;
+        });
+        assertThat(thumbnailOf(id)).endsWith("_thumb.jpg");
+        assertThat(uploadDir.resolve(thumbnailOf(id).substring("/uploads/".length()))).exists();
+
+        recipeService.deleteRecipe(id);
+    }
+
+    private String thumbnailOf(Long id) {
+        return recipeRepository.findById(id).map(Recipe::getThumbnailUrl).orElse(null);
+    }
+
+    private static MockMultipartFile png() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB), "png", out);
+        return new MockMultipartFile("image", "photo.png", "image/png", out.toByteArray());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("10초 안에 조건을 만족하지 않음").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
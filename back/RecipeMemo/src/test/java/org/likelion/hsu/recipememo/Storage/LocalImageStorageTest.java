@@ -0,0 +1,60 @@
+package org.likelion.hsu.recipememo.Storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 하위 디렉터리 저장 구조와, 예전 평면 구조 URL이 옮기기 전후 모두 같은 파일을 찾는지 확인
+ */
+class LocalImageStorageTest {
+
+    private static final String LEGACY_NAME = "3f2a9c1e-0000-4000-8000-000000000000_김치찌개.png";
+
+    @TempDir
+    Path uploadDir;
+
+    private LocalImageStorage storage;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storage = new LocalImageStorage(uploadDir.toString());
+    }
+
+    @Test
+    void storesUnderHashPrefixedDirectories() throws Exception {
+        StoredImage stored = storage.store(new MockMultipartFile("image", "photo.JPG", "image/jpeg",
+                "photo".getBytes(StandardCharsets.UTF_8)));
+
+        String fileName = stored.getUrl().substring(stored.getUrl().lastIndexOf('/') + 1);
+        assertThat(stored.getUrl()).isEqualTo("/uploads/" + fileName.substring(0, 2) + "/" + fileName.substring(2, 4) + "/" + fileName);
+        assertThat(fileName).endsWith(".jpg");
+        assertThat(storage.locate(stored.getUrl())).isRegularFile();
+        assertThat(storage.canonicalUrl(stored.getUrl())).isEqualTo(stored.getUrl());
+    }
+
+    @Test
+    void legacyUrlKeepsWorkingAfterFilesAreMoved() throws Exception {
+        Files.writeString(uploadDir.resolve(LEGACY_NAME), "legacy");
+        String legacyUrl = "/uploads/" + LEGACY_NAME;
+        String shardedUrl = storage.canonicalUrl(legacyUrl);
+        assertThat(shardedUrl).isEqualTo("/uploads/3f/2a/" + LEGACY_NAME);
+        assertThat(storage.aliases(legacyUrl)).containsExactlyInAnyOrder(legacyUrl, shardedUrl);
+        assertThat(storage.exists(shardedUrl)).isTrue(); // 옮기기 전: 새 URL → 평면 위치
+
+        assertThat(storage.moveFlatFiles(2)).isEqualTo(1);
+        assertThat(uploadDir.resolve(LEGACY_NAME)).doesNotExist();
+        assertThat(storage.locate(legacyUrl)).isEqualTo(uploadDir.resolve("3f/2a/" + LEGACY_NAME)); // 옮긴 후: 예전 URL → 새 위치
+        assertThat(storage.moveFlatFiles(2)).isZero();
+
+        storage.delete(legacyUrl);
+        assertThat(storage.exists(shardedUrl)).isFalse();
+    }
+}
@@ -61,7 +61,7 @@ const Home = () => {
                 if (currentUser?.uid) {
                     try {
                         console.log('🔍 백엔드에서 사용자 레시피 조회:', currentUser.uid);
-                        backendRecipes = await getUserRecipes(currentUser.uid);
+                        backendRecipes = await getUserRecipes(currentUser.uid, { limit: 6 }); // 화면에 6개만 보여줌
                         console.log('✅ 백엔드 레시피 조회 결과:', backendRecipes);
                     } catch (error) {
                         console.warn('⚠️ 백엔드 레시피 조회 실패:', error.message);
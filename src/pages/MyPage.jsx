@@ -5,7 +5,7 @@ import { collection, query, where, getDocs, orderBy, limit } from 'firebase/fire
 import { db } from '../firebase';
 import Header from '../components/Header';
 import BottomNav from '../components/BottomNav';
-import { getUserRecipes } from '../services/apiService';
+import { getUserRecipeCount, getUserRecipes } from '../services/apiService';
 
 const MyPage = () => {
     const { currentUser, logout } = useAuth();
@@ -33,7 +33,11 @@ const MyPage = () => {
             console.log('🔍 사용자 레시피 로드 시작:', currentUser.uid);
 
             // 백엔드 API를 통해 실제 사용자 레시피 가져오기
-            const userRecipes = await getUserRecipes(currentUser.uid);
+            // 목록은 최신 100개까지, 전체 개수는 개수 API로 따로 조회
+            const [userRecipes, recipeCount] = await Promise.all([
+                getUserRecipes(currentUser.uid, { limit: 100 }),
+                getUserRecipeCount(currentUser.uid)
+            ]);
 
             console.log('✅ 사용자 레시피 로드 성공:', userRecipes);
 
@@ -57,7 +61,7 @@ const MyPage = () => {
 
             setMyRecipes(formattedRecipes);
             setStats({
-                totalRecipes: formattedRecipes.length,
+                totalRecipes: recipeCount ?? formattedRecipes.length,
                 totalLikes: formattedRecipes.reduce((sum, recipe) => sum + recipe.likes, 0),
                 totalViews: formattedRecipes.reduce((sum, recipe) => sum + recipe.views, 0)
             });
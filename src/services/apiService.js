@@ -136,18 +136,25 @@ export const createRecipe = async (recipeData, imageFile = null) => {
 };
 
 /**
- * 카테고리별 레시피 목록 조회 API
+ * 카테고리별 레시피 목록 조회 API (최신순, 한 페이지씩)
  * @param {string} category - 카테고리 (한식, 중식, 일식, 양식)
- * @returns {Promise} 레시피 목록
+ * @param {Object} [options]
+ * @param {number} [options.after] - 이전 응답의 nextCursor (첫 페이지면 생략)
+ * @param {number} [options.limit=20] - 한 페이지 크기 (최대 100)
+ * @returns {Promise} { category, recipes, nextCursor } - nextCursor가 null이면 마지막 페이지
  */
-export const getRecipesByCategory = async (category) => {
+export const getRecipesByCategory = async (category, { after, limit = 20 } = {}) => {
     try {
         // 카테고리 유효성 검사
         if (!config.recipe.categories.includes(category)) {
             throw new Error(`지원되지 않는 카테고리입니다: ${category}`);
         }
 
-        const response = await apiRequest(`${config.api.baseUrl}/recipes/category/${encodeURIComponent(category)}`, {
+        const params = new URLSearchParams({ limit: String(limit) });
+        if (after != null) {
+            params.set('after', String(after));
+        }
+        const response = await apiRequest(`${config.api.baseUrl}/recipes/category/${encodeURIComponent(category)}?${params}`, {
             method: 'GET',
             headers: {
                 'Content-Type': 'application/json',
@@ -252,15 +259,22 @@ export const searchRecipesByTitle = async (title) => {
 };
 
 /**
- * 사용자별 레시피 목록 조회 API
+ * 사용자별 레시피 목록 조회 API (최신순, 한 페이지씩)
  * @param {string} firebaseUid - Firebase UID
- * @returns {Promise} 사용자 레시피 목록
+ * @param {Object} [options]
+ * @param {number} [options.after] - 이전 페이지의 마지막 레시피 ID (응답 헤더 X-Next-Cursor, 첫 페이지면 생략)
+ * @param {number} [options.limit=20] - 한 페이지 크기 (최대 100)
+ * @returns {Promise} 사용자 레시피 목록 (한 페이지)
  */
-export const getUserRecipes = async (firebaseUid) => {
+export const getUserRecipes = async (firebaseUid, { after, limit = 20 } = {}) => {
     try {
         console.log('🔍 사용자별 레시피 조회 요청:', firebaseUid);
 
-        const response = await apiRequest(`${config.api.baseUrl}/recipes/user/${encodeURIComponent(firebaseUid)}`, {
+        const params = new URLSearchParams({ limit: String(limit) });
+        if (after != null) {
+            params.set('after', String(after));
+        }
+        const response = await apiRequest(`${config.api.baseUrl}/recipes/user/${encodeURIComponent(firebaseUid)}?${params}`, {
             method: 'GET',
             headers: {
                 'Content-Type': 'application/json',
@@ -282,6 +296,33 @@ export const getUserRecipes = async (firebaseUid) => {
     }
 };
 
+/**
+ * 사용자별 레시피 개수 조회 API (목록을 받지 않고 개수만)
+ * @param {string} firebaseUid - Firebase UID
+ * @returns {Promise<number>} 레시피 개수 (실패하면 null)
+ */
+export const getUserRecipeCount = async (firebaseUid) => {
+    try {
+        const response = await apiRequest(`${config.api.baseUrl}/recipes/user/${encodeURIComponent(firebaseUid)}/count`, {
+            method: 'GET',
+            headers: {
+                'Content-Type': 'application/json',
+            },
+        });
+
+        if (!response.ok) {
+            console.warn(`⚠️ 사용자 레시피 개수 조회 실패 (${response.status})`);
+            return null;
+        }
+
+        const { count } = await response.json();
+        return count;
+    } catch (error) {
+        console.warn('⚠️ 사용자 레시피 개수 조회 실패:', error.message);
+        return null;
+    }
+};
+
 /**
  * 레시피 수정 API
  * @param {string} id - 레시피 ID